@@ -0,0 +1,83 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+/**
+ * The distinct characters of a string with the number of times each occurs.
+ * Comparing two profiles gives an upper bound of {@link StringUtil#calculateSimilarity(String, String)} that is
+ * much cheaper than the similarity itself, so that strings which cannot be similar enough are skipped early.
+ */
+public class CharacterProfile {
+
+    private final int length;
+    private final char[] characters;
+    private final int[] counts;
+
+    private CharacterProfile(int length, char[] characters, int[] counts) {
+        this.length = length;
+        this.characters = characters;
+        this.counts = counts;
+    }
+
+    /**
+     * Returns the profile of {@code string}.
+     */
+    public static CharacterProfile of(String string) {
+        requireNonNull(string);
+        char[] sorted = string.toCharArray();
+        Arrays.sort(sorted);
+
+        char[] characters = new char[sorted.length];
+        int[] counts = new int[sorted.length];
+        int distinctCount = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                characters[distinctCount++] = sorted[i];
+            }
+            counts[distinctCount - 1]++;
+        }
+        return new CharacterProfile(sorted.length, Arrays.copyOf(characters, distinctCount),
+                Arrays.copyOf(counts, distinctCount));
+    }
+
+    /**
+     * Returns a value that is at least the similarity between the strings of this profile and {@code other}.
+     * <p>
+     * The character overlap and length ratio are computed exactly. The edit distance is bounded from below by the
+     * difference in length and by the number of characters on either side that the other string does not contain,
+     * as each of those needs its own edit.
+     */
+    public double getSimilarityUpperBound(CharacterProfile other) {
+        requireNonNull(other);
+        if (length == 0 || other.length == 0) {
+            return 0.0;
+        }
+
+        int sharedCount = 0;
+        int unmatchedCount = 0;
+        int otherUnmatchedCount = 0;
+        int i = 0;
+        int j = 0;
+        while (i < characters.length || j < other.characters.length) {
+            if (j == other.characters.length
+                    || (i < characters.length && characters[i] < other.characters[j])) {
+                unmatchedCount += counts[i++];
+            } else if (i == characters.length || characters[i] > other.characters[j]) {
+                otherUnmatchedCount += other.counts[j++];
+            } else {
+                sharedCount++;
+                i++;
+                j++;
+            }
+        }
+
+        double maxLength = Math.max(length, other.length);
+        double minLength = Math.min(length, other.length);
+        int minDistance = Math.max(Math.abs(length - other.length), Math.max(unmatchedCount, otherUnmatchedCount));
+        int unionCount = characters.length + other.characters.length - sharedCount;
+        return StringUtil.combineSimilarityScores(1 - (double) minDistance / maxLength,
+                (double) sharedCount / unionCount, minLength / maxLength);
+    }
+}
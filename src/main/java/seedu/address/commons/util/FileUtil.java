@@ -1,10 +1,22 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystemException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Writes and reads files
@@ -12,6 +24,8 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +94,139 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes given string to a file without ever leaving it partially written.
+     * Will create the file if it does not exist yet.
+     *
+     * @see #writeToFileAtomically(Path, int, ContentWriter)
+     */
+    public static void writeToFileAtomically(Path file, String content) throws IOException {
+        writeToFileAtomically(file, 0, outputStream -> outputStream.write(content.getBytes(CHARSET)));
+    }
+
+    /**
+     * Writes the output of {@code contentWriter} to a file without ever leaving it partially written.
+     * The content goes to a temporary file next to {@code file}, is forced to disk, and is then moved over
+     * {@code file} in a single step, so a crash or a full disk leaves either the old or the new content in place.
+     * The file keeps its permissions, and never goes missing while it is being replaced.
+     * Up to {@code backupCount} previous versions of the file are kept, see {@link #getBackupFilePath(Path, int)}.
+     * Will create the file and its parent directories if they do not exist yet.
+     */
+    public static void writeToFileAtomically(Path file, int backupCount, ContentWriter contentWriter)
+            throws IOException {
+        Path targetFile = file.toAbsolutePath();
+        createParentDirsOfFile(targetFile);
+        Path tempFile = createTempFileFor(targetFile);
+
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                OutputStream outputStream = new BufferedOutputStream(Channels.newOutputStream(channel));
+                contentWriter.writeTo(new UnclosableOutputStream(outputStream));
+                outputStream.flush();
+                channel.force(true);
+            }
+            rotateBackups(targetFile, backupCount);
+            moveAtomically(tempFile, targetFile);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Returns the path of the {@code index}-th most recent backup of {@code file}, counting from 1.
+     */
+    public static Path getBackupFilePath(Path file, int index) {
+        return file.resolveSibling(file.getFileName() + BACKUP_FILE_SUFFIX + index);
+    }
+
+    /**
+     * Shifts each backup of {@code file} one place older, dropping the oldest, and makes the current content of
+     * {@code file} the newest. {@code file} itself stays in place until it is replaced.
+     */
+    private static void rotateBackups(Path file, int backupCount) throws IOException {
+        if (backupCount <= 0 || !Files.exists(file)) {
+            return;
+        }
+
+        Files.deleteIfExists(getBackupFilePath(file, backupCount));
+        for (int index = backupCount - 1; index >= 1; index--) {
+            Path backup = getBackupFilePath(file, index);
+            if (Files.exists(backup)) {
+                Files.move(backup, getBackupFilePath(file, index + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Path newestBackup = getBackupFilePath(file, 1);
+        Files.deleteIfExists(newestBackup);
+        try {
+            // The link keeps the current content once file is replaced, without copying it
+            Files.createLink(newestBackup, file);
+        } catch (UnsupportedOperationException | FileSystemException e) {
+            Files.copy(file, newestBackup, StandardCopyOption.COPY_ATTRIBUTES);
+        }
+    }
+
+    /**
+     * Creates an empty temporary file next to {@code targetFile} with the permissions of {@code targetFile},
+     * or the default permissions for new files if {@code targetFile} does not exist yet.
+     */
+    private static Path createTempFileFor(Path targetFile) throws IOException {
+        Path tempFile;
+        while (true) {
+            // Unlike Files.createTempFile, this does not restrict the permissions to the owner
+            String tempFileName = "." + targetFile.getFileName() + "."
+                    + Long.toUnsignedString(ThreadLocalRandom.current().nextLong()) + TEMP_FILE_SUFFIX;
+            try {
+                tempFile = Files.createFile(targetFile.resolveSibling(tempFileName));
+                break;
+            } catch (FileAlreadyExistsException e) {
+                // Try another name
+            }
+        }
+
+        PosixFileAttributeView targetAttributes = Files.getFileAttributeView(targetFile, PosixFileAttributeView.class);
+        if (targetAttributes != null && Files.exists(targetFile)) {
+            try {
+                Files.setPosixFilePermissions(tempFile, targetAttributes.readAttributes().permissions());
+            } catch (IOException e) {
+                Files.deleteIfExists(tempFile);
+                throw e;
+            }
+        }
+        return tempFile;
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes the content of a file to the given stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream outputStream) throws IOException;
+    }
+
+    /**
+     * Keeps a {@code ContentWriter} from closing the file before it has been forced to disk.
+     */
+    private static class UnclosableOutputStream extends FilterOutputStream {
+        UnclosableOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
 }
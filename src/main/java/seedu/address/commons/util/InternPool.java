@@ -0,0 +1,57 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * A canonicalizing pool of immutable values keyed by their string form, so that equal values share one instance.
+ * <p>
+ * Only values that were created successfully enter the pool, so a value found in the pool never needs to be
+ * validated again. Once the pool holds {@code maxSize} values, new values are still created but no longer pooled,
+ * which keeps unusual inputs from growing it without bound.
+ *
+ * @param <T> the type of the pooled values, which must be immutable.
+ */
+public class InternPool<T> {
+
+    private final ConcurrentMap<String, T> instances = new ConcurrentHashMap<>();
+    private final int maxSize;
+
+    /**
+     * Creates an empty pool that holds at most {@code maxSize} values.
+     */
+    public InternPool(int maxSize) {
+        assert maxSize >= 0;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the pooled value for {@code key}, creating it with {@code factory} if the pool does not hold one.
+     * Any exception thrown by {@code factory} is passed on and nothing is pooled.
+     */
+    public T intern(String key, Function<String, T> factory) {
+        requireNonNull(key);
+        T instance = instances.get(key);
+        if (instance != null) {
+            return instance;
+        }
+
+        instance = requireNonNull(factory.apply(key));
+        if (instances.size() >= maxSize) {
+            return instance;
+        }
+        // Another thread may have pooled an equal value in the meantime; theirs wins so that only one is shared
+        T pooled = instances.putIfAbsent(key, instance);
+        return pooled != null ? pooled : instance;
+    }
+
+    /**
+     * Returns the number of values in the pool.
+     */
+    public int size() {
+        return instances.size();
+    }
+}
@@ -2,19 +2,31 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -22,6 +34,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -40,7 +53,7 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        FileUtil.writeToFileAtomically(jsonFile, toJsonString(objectToSerialize));
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
@@ -77,6 +90,86 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Returns the JSON object from the given file or {@code Optional.empty()} object if the file is not found.
+     * Unlike {@link #readJsonFile(Path, Class)}, the file is memory-mapped and its bytes are parsed in place,
+     * so neither a copy of the file contents nor an intermediate {@code String} is held on the heap.
+     * Meant for large files that are only read, such as imports: on some platforms a mapped file cannot be
+     * replaced until the mapping has been garbage collected.
+     *
+     * @param filePath cannot be null.
+     * @param classOfObjectToDeserialize JSON file has to correspond to the structure in the class given here.
+     * @throws DataLoadingException if loading of the JSON file failed.
+     */
+    public static <T> Optional<T> readJsonFileMapped(
+            Path filePath, Class<T> classOfObjectToDeserialize) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ);
+             InputStream inputStream = new MappedFileInputStream(channel)) {
+            return Optional.of(objectMapper.readValue(inputStream, classOfObjectToDeserialize));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Streams the elements of the array stored under {@code arrayFieldName} in the top-level object of the given
+     * JSON file, handing each element to {@code elementConsumer} as soon as it has been parsed.
+     * Neither the file contents nor the full array are held in memory. Other top-level fields are skipped, and a
+     * missing or null array is treated as empty.
+     *
+     * @param filePath cannot be null.
+     * @param elementClass each array element has to correspond to the structure in the class given here.
+     * @return false if the file is not found, true otherwise.
+     * @throws DataLoadingException if reading or parsing the JSON file failed.
+     * @throws IllegalValueException if {@code elementConsumer} rejects an element.
+     */
+    public static <T> boolean readJsonArrayField(Path filePath, String arrayFieldName, Class<T> elementClass,
+            JsonElementConsumer<T> elementConsumer) throws DataLoadingException, IllegalValueException {
+        requireNonNull(filePath);
+        requireNonNull(arrayFieldName);
+        requireNonNull(elementConsumer);
+
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(filePath));
+             JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object at the top level");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (!fieldName.equals(arrayFieldName) || valueToken == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (valueToken != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected an array for field " + arrayFieldName);
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    elementConsumer.accept(objectMapper.readValue(parser, elementClass));
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        return true;
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
@@ -92,6 +185,40 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Writes {@code elements} to {@code outputStream} as the array stored under {@code arrayFieldName} in a single
+     * top-level object. Elements are serialized one at a time straight into the stream, so the JSON text is
+     * never built up in memory. The output matches that of {@link #saveJsonFile(Object, Path)} for an object whose
+     * only field is that array. The stream should be buffered, and is closed once the object has been written.
+     *
+     * @param outputStream cannot be null
+     * @param isPrettyPrinted whether the output should be indented for human readers.
+     * @throws IOException if there was an error during writing to the stream
+     */
+    public static <T> void writeJsonArray(OutputStream outputStream, String arrayFieldName, Iterable<T> elements,
+            boolean isPrettyPrinted) throws IOException {
+        requireNonNull(outputStream);
+        requireNonNull(arrayFieldName);
+        requireNonNull(elements);
+
+        // Flushing after every element would push each one through to the disk and defeat the buffering
+        ObjectWriter elementWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+            if (isPrettyPrinted) {
+                generator.useDefaultPrettyPrinter();
+            }
+            generator.writeStartObject();
+            generator.writeFieldName(arrayFieldName);
+            generator.writeStartArray();
+            for (T element : elements) {
+                elementWriter.writeValue(generator, element);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -111,6 +238,31 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, without any line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Receives the elements streamed by {@link #readJsonArrayField(Path, String, Class, JsonElementConsumer)}.
+     *
+     * @param <T> The type of the array elements.
+     */
+    @FunctionalInterface
+    public interface JsonElementConsumer<T> {
+        /**
+         * Processes a single parsed element.
+         *
+         * @throws IllegalValueException if the element violates any data constraints.
+         */
+        void accept(T element) throws IllegalValueException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -141,4 +293,60 @@ public class JsonUtil {
         }
     }
 
+    /**
+     * Reads a file through memory-mapped regions of at most {@code Integer.MAX_VALUE} bytes, one region at a time.
+     */
+    private static class MappedFileInputStream extends InputStream {
+        private final FileChannel channel;
+        private final long size;
+        private long nextRegionStart = 0;
+        private MappedByteBuffer region = null;
+
+        MappedFileInputStream(FileChannel channel) throws IOException {
+            this.channel = channel;
+            this.size = channel.size();
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!hasRemaining()) {
+                return -1;
+            }
+            return region.get() & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            if (length == 0) {
+                return 0;
+            }
+            if (!hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, region.remaining());
+            region.get(buffer, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return region == null ? 0 : region.remaining();
+        }
+
+        /**
+         * Returns true if there are bytes left to read, mapping the next region of the file if necessary.
+         */
+        private boolean hasRemaining() throws IOException {
+            if (region != null && region.hasRemaining()) {
+                return true;
+            }
+            if (nextRegionStart >= size) {
+                return false;
+            }
+            long regionSize = Math.min(Integer.MAX_VALUE, size - nextRegionStart);
+            region = channel.map(FileChannel.MapMode.READ_ONLY, nextRegionStart, regionSize);
+            nextRegionStart += regionSize;
+            return true;
+        }
+    }
 }
@@ -6,14 +6,20 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
-import java.util.HashSet;
-import java.util.Set;
 
 /**
  * Helper functions for handling strings.
  */
 public class StringUtil {
 
+    // Weights of the factors combined by calculateSimilarity
+    private static final double EDIT_DISTANCE_WEIGHT = 0.6;
+    private static final double OVERLAP_WEIGHT = 0.3;
+    private static final double LENGTH_RATIO_WEIGHT = 0.1;
+
+    // One row of the Levenshtein distance matrix per thread, grown on demand and reused across calls
+    private static final ThreadLocal<int[]> distanceRow = ThreadLocal.withInitial(() -> new int[32]);
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -71,6 +77,7 @@ public class StringUtil {
     /**
      * Computes a refined similarity index between two strings.
      * Combines multiple factors for more accuracy.
+     * Allocates nothing once the calling thread's edit distance buffer is large enough for the input.
      *
      * @param a First string
      * @param b Second string
@@ -92,56 +99,179 @@ public class StringUtil {
         // 3. Length Ratio Score (penalizes large length differences)
         double lengthRatioScore = computeLengthRatioScore(a, b);
 
-        // Combine the scores
-        double similarityIndex = (0.6 * editDistanceScore) + (0.3 * overlapScore) + (0.1 * lengthRatioScore);
+        return combineSimilarityScores(editDistanceScore, overlapScore, lengthRatioScore);
+    }
 
-        return similarityIndex;
+    /**
+     * Combines the factors of {@link #calculateSimilarity(String, String)} into one similarity index.
+     * The result never decreases when any factor increases.
+     */
+    static double combineSimilarityScores(double editDistanceScore, double overlapScore, double lengthRatioScore) {
+        return (EDIT_DISTANCE_WEIGHT * editDistanceScore) + (OVERLAP_WEIGHT * overlapScore)
+                + (LENGTH_RATIO_WEIGHT * lengthRatioScore);
+    }
+
+    /**
+     * Returns true if {@code calculateSimilarity(a, b)} is at least {@code threshold}.
+     * The cheap factors are computed first to find the largest edit distance that can still reach
+     * {@code threshold}, and the edit distance is only computed within that bound, stopping as soon as it is exceeded.
+     */
+    public static boolean isSimilarAtLeast(String a, String b, double threshold) {
+        if (a == null || b == null || a.isEmpty() || b.isEmpty()) {
+            return 0.0 >= threshold;
+        }
+
+        double maxLength = Math.max(a.length(), b.length());
+        double lengthRatioScore = computeLengthRatioScore(a, b);
+        // The edit distance is at least the difference in length, so its score is at most the length ratio
+        if (combineSimilarityScores(lengthRatioScore, 1, lengthRatioScore) < threshold - 1e-9) {
+            return false;
+        }
+
+        double overlapScore = computeOverlapScore(a, b);
+        double minEditDistanceScore =
+                (threshold - OVERLAP_WEIGHT * overlapScore - LENGTH_RATIO_WEIGHT * lengthRatioScore)
+                / EDIT_DISTANCE_WEIGHT;
+        // The tolerance keeps rounding from excluding a pair right at the bound; the final check below is exact
+        double maxDistanceBound = Math.floor(maxLength * (1 - minEditDistanceScore) + 1e-9);
+        if (maxDistanceBound < 0) {
+            return false;
+        }
+
+        int maxDistance = (int) Math.min(maxDistanceBound, maxLength);
+        int distance = boundedLevenshteinDistance(a, b, maxDistance);
+        return distance <= maxDistance
+                && combineSimilarityScores(1 - (double) distance / maxLength, overlapScore, lengthRatioScore)
+                        >= threshold;
     }
 
     /**
      * Computes the Levenshtein distance (edit distance) between two strings.
+     * Only one row of the distance matrix is kept, in a buffer that is reused by later calls on the same thread.
      */
     private static int levenshteinDistance(String a, String b) {
-        int[][] dp = new int[a.length() + 1][b.length() + 1];
-
-        for (int i = 0; i <= a.length(); i++) {
-            for (int j = 0; j <= b.length(); j++) {
-                if (i == 0) {
-                    dp[i][j] = j;
-                } else if (j == 0) {
-                    dp[i][j] = i;
-                } else {
-                    dp[i][j] = Math.min(dp[i - 1][j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1),
-                            Math.min(dp[i - 1][j] + 1, dp[i][j - 1] + 1));
-                }
+        // Let the row run along the shorter string to keep the buffer small
+        String outer = a.length() >= b.length() ? a : b;
+        String inner = outer == a ? b : a;
+        int[] row = getDistanceRow(inner.length() + 1);
+        for (int j = 0; j <= inner.length(); j++) {
+            row[j] = j;
+        }
+
+        for (int i = 1; i <= outer.length(); i++) {
+            char outerChar = outer.charAt(i - 1);
+            int diagonal = row[0];
+            row[0] = i;
+            for (int j = 1; j <= inner.length(); j++) {
+                int above = row[j];
+                int substitution = diagonal + (outerChar == inner.charAt(j - 1) ? 0 : 1);
+                row[j] = Math.min(substitution, Math.min(above + 1, row[j - 1] + 1));
+                diagonal = above;
             }
         }
-        return dp[a.length()][b.length()];
+        return row[inner.length()];
     }
 
     /**
-     * Compute substring overlap score, measuring the proportion of characters in common.
+     * Computes the Levenshtein distance between two strings if it is at most {@code maxDistance}, and returns
+     * {@code maxDistance + 1} otherwise.
+     * Only the diagonal band of the distance matrix that can hold values up to {@code maxDistance} is filled in,
+     * and the computation stops at the first row whose band holds no such value.
      */
-    private static double computeOverlapScore(String a, String b) {
-        Set<Character> setA = new HashSet<>();
-        for (char c : a.toCharArray()) {
-            setA.add(c);
+    private static int boundedLevenshteinDistance(String a, String b, int maxDistance) {
+        String outer = a.length() >= b.length() ? a : b;
+        String inner = outer == a ? b : a;
+        int exceeded = maxDistance + 1;
+        if (outer.length() - inner.length() > maxDistance) {
+            return exceeded;
         }
 
-        Set<Character> setB = new HashSet<>();
-        for (char c : b.toCharArray()) {
-            setB.add(c);
+        // Values are capped at maxDistance + 1, which stands for every distance too large to matter
+        int[] row = getDistanceRow(inner.length() + 1);
+        for (int j = 0; j <= inner.length(); j++) {
+            row[j] = Math.min(j, exceeded);
         }
 
-        // Calculate intersection and union of character sets
-        Set<Character> intersection = new HashSet<>(setA);
-        intersection.retainAll(setB);
+        for (int i = 1; i <= outer.length(); i++) {
+            char outerChar = outer.charAt(i - 1);
+            int low = Math.max(1, i - maxDistance);
+            int high = Math.min(inner.length(), i + maxDistance);
+            int diagonal = row[low - 1];
+            row[low - 1] = low == 1 ? Math.min(i, exceeded) : exceeded;
+            int rowMinimum = row[low - 1];
+            for (int j = low; j <= high; j++) {
+                int above = row[j];
+                int substitution = diagonal + (outerChar == inner.charAt(j - 1) ? 0 : 1);
+                int distance = Math.min(exceeded, Math.min(substitution, Math.min(above + 1, row[j - 1] + 1)));
+                row[j] = distance;
+                rowMinimum = Math.min(rowMinimum, distance);
+                diagonal = above;
+            }
+            if (rowMinimum > maxDistance) {
+                return exceeded;
+            }
+        }
+        return row[inner.length()];
+    }
 
-        Set<Character> union = new HashSet<>(setA);
-        union.addAll(setB);
+    private static int[] getDistanceRow(int length) {
+        int[] row = distanceRow.get();
+        if (row.length < length) {
+            row = new int[Math.max(length, row.length * 2)];
+            distanceRow.set(row);
+        }
+        return row;
+    }
+
+    /**
+     * Compute substring overlap score, measuring the proportion of characters in common.
+     */
+    private static double computeOverlapScore(String a, String b) {
+        int distinctA = 0;
+        int distinctB = 0;
+        int shared = 0;
+        if (isAscii(a) && isAscii(b)) {
+            long lowA = 0;
+            long highA = 0;
+            long lowB = 0;
+            long highB = 0;
+            for (int i = 0; i < a.length(); i++) {
+                char c = a.charAt(i);
+                lowA |= c < 64 ? 1L << c : 0;
+                highA |= c >= 64 ? 1L << (c - 64) : 0;
+            }
+            for (int i = 0; i < b.length(); i++) {
+                char c = b.charAt(i);
+                lowB |= c < 64 ? 1L << c : 0;
+                highB |= c >= 64 ? 1L << (c - 64) : 0;
+            }
+            distinctA = Long.bitCount(lowA) + Long.bitCount(highA);
+            distinctB = Long.bitCount(lowB) + Long.bitCount(highB);
+            shared = Long.bitCount(lowA & lowB) + Long.bitCount(highA & highB);
+        } else {
+            for (int i = 0; i < a.length(); i++) {
+                char c = a.charAt(i);
+                if (a.indexOf(c) == i) {
+                    distinctA++;
+                    shared += b.indexOf(c) >= 0 ? 1 : 0;
+                }
+            }
+            for (int i = 0; i < b.length(); i++) {
+                distinctB += b.indexOf(b.charAt(i)) == i ? 1 : 0;
+            }
+        }
 
         // Return the overlap score as intersection size divided by union size
-        return (double) intersection.size() / union.size();
+        return (double) shared / (distinctA + distinctB - shared);
+    }
+
+    private static boolean isAscii(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) >= 128) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -152,7 +282,4 @@ public class StringUtil {
         double lengthB = b.length();
         return Math.min(lengthA, lengthB) / Math.max(lengthA, lengthB);
     }
-
-
-
 }
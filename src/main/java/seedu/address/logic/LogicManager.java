@@ -3,6 +3,7 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -19,10 +20,9 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyCommandHistory;
 import seedu.address.model.person.Person;
+import seedu.address.storage.PersistenceService;
 import seedu.address.storage.Storage;
 
-
-
 /**
  * The main LogicManager of the app.
  */
@@ -35,8 +35,9 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final PersistenceService persistenceService;
     private final AddressBookParser addressBookParser;
+    private volatile Consumer<String> saveErrorHandler = message -> {};
     private ConfirmableCommand pendingConfirmation;
     private boolean isPendingConfirmation = false;
 
@@ -44,9 +45,17 @@ public class LogicManager implements Logic {
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, new PersistenceService(storage));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} that saves through {@code persistenceService}.
+     */
+    public LogicManager(Model model, PersistenceService persistenceService) {
         this.model = model;
-        this.storage = storage;
+        this.persistenceService = persistenceService;
         addressBookParser = new AddressBookParser();
+        persistenceService.setErrorHandler(this::reportSaveError);
     }
 
     @Override
@@ -78,18 +87,16 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
-    private void saveState(String commandText) throws CommandException {
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-            model.addToCommandHistory(commandText);
-            storage.saveCommandHistory(model.getCommandHistory());
-            logger.info("Data saved successfully.");
-        } catch (AccessDeniedException e) {
-            logger.severe("Permission error saving data: " + e.getMessage());
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            logger.severe("IO error saving data: " + ioe.getMessage());
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+    private void saveState(String commandText) {
+        model.addToCommandHistory(commandText);
+        persistenceService.submit(model.getAddressBook(), model.getCommandHistory());
+    }
+
+    private void reportSaveError(IOException e) {
+        if (e instanceof AccessDeniedException) {
+            saveErrorHandler.accept(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()));
+        } else {
+            saveErrorHandler.accept(String.format(FILE_OPS_ERROR_FORMAT, e.getMessage()));
         }
     }
 
@@ -119,6 +126,16 @@ public class LogicManager implements Logic {
         return result;
     }
 
+    @Override
+    public void setSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        this.saveErrorHandler = saveErrorHandler;
+    }
+
+    @Override
+    public void flushPendingSaves() {
+        persistenceService.shutdown();
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.List;
 import java.util.logging.Logger;
@@ -71,11 +72,14 @@ public class DeleteCommand extends UndoableCommand implements ConfirmableCommand
     public void undo(Model model) {
         requireNonNull(model);
         if (personsToDelete != null) {
-            for (Person person : personsToDelete) {
-                if (!model.hasPerson(person)) {
-                    model.addPerson(person);
+            model.batch(book -> {
+                for (Person person : personsToDelete) {
+                    if (!book.hasPerson(person)) {
+                        book.addPerson(person);
+                    }
                 }
-            }
+            });
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         }
     }
 
@@ -83,9 +87,7 @@ public class DeleteCommand extends UndoableCommand implements ConfirmableCommand
     public void redo(Model model) {
         requireNonNull(model);
         if (personsToDelete != null) {
-            for (Person person : personsToDelete) {
-                model.deletePerson(person);
-            }
+            model.batch(book -> personsToDelete.forEach(book::removePerson));
         }
     }
 
@@ -134,9 +136,7 @@ public class DeleteCommand extends UndoableCommand implements ConfirmableCommand
 
         assert !personsToDelete.isEmpty();
 
-        for (Person personToDelete : personsToDelete) {
-            model.deletePerson(personToDelete);
-        }
+        model.batch(book -> personsToDelete.forEach(book::removePerson));
 
         return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS,
                 personsToDelete.stream()
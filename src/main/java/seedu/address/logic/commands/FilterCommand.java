@@ -0,0 +1,91 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Lists all persons in address book carrying all, or any, of the given tags.
+ * Tag matching is case sensitive, like the tags themselves.
+ */
+public class FilterCommand extends Command {
+
+    /**
+     * Represents how the given tags are combined.
+     */
+    public enum MatchMode {
+        /** A person must carry every given tag. */
+        ALL,
+        /** A person must carry at least one of the given tags. */
+        ANY
+    }
+
+    public static final String COMMAND_WORD = "filter";
+    public static final String MATCH_ALL_KEYWORD = "and";
+    public static final String MATCH_ANY_KEYWORD = "or";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all persons carrying the specified tags.\n"
+            + "Persons must carry every tag by default, or any of them when preceded by '" + MATCH_ANY_KEYWORD + "'.\n"
+            + "Parameters: [" + MATCH_ALL_KEYWORD + " / " + MATCH_ANY_KEYWORD + "] "
+            + PREFIX_TAG + "TAG [" + PREFIX_TAG + "MORE_TAGS]...\n"
+            + "Example: " + COMMAND_WORD + " " + MATCH_ANY_KEYWORD + " " + PREFIX_TAG + "friends "
+            + PREFIX_TAG + "colleagues";
+
+    private final Set<Tag> tags;
+    private final MatchMode matchMode;
+
+    /**
+     * Creates a FilterCommand that lists the persons carrying {@code tags}, combined according to {@code matchMode}.
+     */
+    public FilterCommand(Set<Tag> tags, MatchMode matchMode) {
+        requireNonNull(tags);
+        requireNonNull(matchMode);
+        assert !tags.isEmpty();
+        this.tags = Collections.unmodifiableSet(new HashSet<>(tags));
+        this.matchMode = matchMode;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        // Resolve the matches through the tag index instead of testing the tags of every person
+        Set<Person> matches = matchMode == MatchMode.ALL
+                ? model.findPersonsWithAllTags(tags)
+                : model.findPersonsWithAnyTag(tags);
+        model.updateFilteredPersonList(matches::contains);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FilterCommand)) {
+            return false;
+        }
+
+        FilterCommand otherFilterCommand = (FilterCommand) other;
+        return tags.equals(otherFilterCommand.tags) && matchMode == otherFilterCommand.matchMode;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("tags", tags)
+                .add("matchMode", matchMode)
+                .toString();
+    }
+}
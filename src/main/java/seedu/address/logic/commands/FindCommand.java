@@ -1,15 +1,29 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NICKNAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTES;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RELATIONSHIP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Set;
+import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.namepredicate.NameContainsKeywordsPredicate;
 import seedu.address.model.person.namepredicate.NameSimilarPredicate;
+import seedu.address.model.person.query.PersonQuery;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
+ * Finds and lists all persons in address book whose name contains any of the argument keywords,
+ * or who satisfy every field clause of a query.
  * Keyword matching is case insensitive.
  */
 public class FindCommand extends Command {
@@ -19,11 +33,22 @@ public class FindCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Fields can also be searched, and a person must then match every given field: "
+            + "[" + PREFIX_NAME + "KEYWORDS] "
+            + "[" + PREFIX_PHONE + "KEYWORDS] "
+            + "[" + PREFIX_EMAIL + "KEYWORDS] "
+            + "[" + PREFIX_ADDRESS + "KEYWORDS] "
+            + "[" + PREFIX_TAG + "KEYWORDS] "
+            + "[" + PREFIX_RELATIONSHIP + "KEYWORDS] "
+            + "[" + PREFIX_NICKNAME + "KEYWORDS] "
+            + "[" + PREFIX_NOTES + "KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_TAG + "friend " + PREFIX_RELATIONSHIP + "colleague "
+            + PREFIX_NAME + "ali";
 
     public static final String MESSAGE_NO_MATCH_BUT_SIMILAR = "No match found, found %d similar entries";
 
-    private final NameContainsKeywordsPredicate predicate;
+    private final Predicate<Person> predicate;
 
     /**
      * Constructs a FindCommand that finds all persons whose names contain any of the specified keywords.
@@ -33,13 +58,32 @@ public class FindCommand extends Command {
         this.predicate = predicate;
     }
 
+    /**
+     * Constructs a FindCommand that finds all persons matching every clause of {@code query}.
+     */
+    public FindCommand(PersonQuery query) {
+        assert query != null;
+        this.predicate = query;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        if (predicate instanceof PersonQuery) {
+            model.updateFilteredPersonList(((PersonQuery) predicate).compile(model));
+            return new CommandResult(
+                    String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+        }
+
+        NameContainsKeywordsPredicate namePredicate = (NameContainsKeywordsPredicate) predicate;
+        // Resolve the matches through the name index instead of testing the predicate on every person
+        Set<Person> matches = model.findPersonsByNamePrefixes(namePredicate.getKeywords());
+        model.updateFilteredPersonList(matches::contains);
         if (model.getFilteredPersonList().isEmpty()) {
-            NameSimilarPredicate nameSimilarPredicate = new NameSimilarPredicate(predicate.getKeywords());
-            model.updateFilteredPersonList(nameSimilarPredicate);
+            // Same matches as NameSimilarPredicate, but only words that can be similar enough are scored
+            Set<Person> similarPersons = model.findPersonsWithSimilarNames(namePredicate.getKeywords(),
+                    NameSimilarPredicate.THRESHOLD);
+            model.updateFilteredPersonList(similarPersons::contains);
             return new CommandResult(String.format(MESSAGE_NO_MATCH_BUT_SIMILAR, model.getFilteredPersonList().size()));
         } else {
             return new CommandResult(
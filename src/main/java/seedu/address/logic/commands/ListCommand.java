@@ -4,11 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.time.LocalDate;
-import java.time.MonthDay;
-import java.time.temporal.ChronoUnit;
 import java.util.Comparator;
 
 import seedu.address.model.Model;
+import seedu.address.model.person.Birthday;
 import seedu.address.model.person.Person;
 
 /**
@@ -54,28 +53,33 @@ public class ListCommand extends Command {
      * @return birthday comparator
      */
     public static Comparator<Person> getBirthdayComparator(LocalDate today, boolean descending) {
-        Comparator<Person> comparator = Comparator.comparing(
-                person -> person.getBirthday()
-                        .map(b -> {
-                            LocalDate birthDate = b.getLocalDate();
-                            if (birthDate == null) {
-                                return Long.MAX_VALUE;
-                            }
+        // Everything that depends on today is worked out once, so comparing two persons is only integer arithmetic
+        int todayKey = Birthday.toMonthDayKey(today);
+        boolean isThisYearLeap = today.isLeapYear();
+        Comparator<Person> comparator = Comparator.comparingInt(person ->
+                getUpcomingBirthdayKey(person, todayKey, isThisYearLeap));
 
-                            MonthDay birthdayMonthDay = MonthDay.from(birthDate);
-                            MonthDay currentMonthDay = MonthDay.from(today);
-                            LocalDate nextBirthday = birthdayMonthDay.atYear(today.getYear());
-                            if (birthdayMonthDay.isBefore(currentMonthDay)) {
-                                nextBirthday = nextBirthday.plusYears(1);
-                            }
+        return descending ? comparator.reversed() : comparator;
+    }
 
-                            return ChronoUnit.DAYS.between(today, nextBirthday);
-                        })
-                        .orElse(Long.MAX_VALUE),
-                Comparator.naturalOrder()
-        );
+    /**
+     * Returns a key that orders persons like the number of days from today until their next birthday,
+     * with persons without a birthday last.
+     */
+    private static int getUpcomingBirthdayKey(Person person, int todayKey, boolean isThisYearLeap) {
+        Birthday birthday = person.getBirthdayOrNull();
+        if (birthday == null) {
+            return Integer.MAX_VALUE;
+        }
 
-        return descending ? comparator.reversed() : comparator;
+        int key = birthday.getMonthDayKey();
+        boolean isNextYear = key < todayKey;
+        // Celebrated on 28 February outside leap years, as MonthDay#atYear does; a leap day birthday that has passed
+        // also falls on 28 February next year, as LocalDate#plusYears keeps 28 February even into a leap year
+        if (key == Birthday.LEAP_DAY_KEY && (isNextYear || !isThisYearLeap)) {
+            key--;
+        }
+        return isNextYear ? key + Birthday.MONTH_DAY_KEY_SPAN : key;
     }
 
     @Override
@@ -1,21 +1,51 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NICKNAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTES;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_RELATIONSHIP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.namepredicate.NameContainsKeywordsPredicate;
+import seedu.address.model.person.query.FieldClause;
+import seedu.address.model.person.query.PersonQuery;
+import seedu.address.model.person.query.SearchField;
 
 /**
  * Parses input arguments and creates a new FindCommand object
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    private static final Map<Prefix, SearchField> SEARCH_FIELDS = new LinkedHashMap<>();
+
+    static {
+        SEARCH_FIELDS.put(PREFIX_NAME, SearchField.NAME);
+        SEARCH_FIELDS.put(PREFIX_PHONE, SearchField.PHONE);
+        SEARCH_FIELDS.put(PREFIX_EMAIL, SearchField.EMAIL);
+        SEARCH_FIELDS.put(PREFIX_ADDRESS, SearchField.ADDRESS);
+        SEARCH_FIELDS.put(PREFIX_TAG, SearchField.TAG);
+        SEARCH_FIELDS.put(PREFIX_RELATIONSHIP, SearchField.RELATIONSHIP);
+        SEARCH_FIELDS.put(PREFIX_NICKNAME, SearchField.NICKNAME);
+        SEARCH_FIELDS.put(PREFIX_NOTES, SearchField.NOTES);
+    }
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
+     * Arguments without any field prefix search names only; otherwise every prefixed value, and the preamble
+     * as a name clause, must match.
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
@@ -25,9 +55,31 @@ public class FindCommandParser implements Parser<FindCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + trimmedArgs,
+                SEARCH_FIELDS.keySet().toArray(new Prefix[0]));
+        List<FieldClause> clauses = new ArrayList<>();
+        for (Map.Entry<Prefix, SearchField> searchField : SEARCH_FIELDS.entrySet()) {
+            for (String value : argMultimap.getAllValues(searchField.getKey())) {
+                clauses.add(new FieldClause(searchField.getValue(), parseKeywords(value)));
+            }
+        }
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        if (clauses.isEmpty()) {
+            return new FindCommand(new NameContainsKeywordsPredicate(parseKeywords(trimmedArgs)));
+        }
+        if (!argMultimap.getPreamble().isEmpty()) {
+            clauses.add(0, new FieldClause(SearchField.NAME, parseKeywords(argMultimap.getPreamble())));
+        }
+        return new FindCommand(new PersonQuery(clauses));
+    }
+
+    private static List<String> parseKeywords(String value) throws ParseException {
+        String trimmedValue = value.trim();
+        if (trimmedValue.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+        return Arrays.asList(trimmedValue.split("\\s+"));
     }
 
 }
@@ -227,11 +227,10 @@ public class ParserUtil {
         }
         String trimmedRelationship = relationship.get().trim();
         try {
-            Relationship.isValidRelationship(trimmedRelationship);
+            return Optional.of(Relationship.of(trimmedRelationship));
         } catch (IllegalArgumentException e) {
             throw new ParseException(e.getMessage());
         }
-        return Optional.of(new Relationship(trimmedRelationship));
     }
 
     /**
@@ -243,11 +242,10 @@ public class ParserUtil {
     public static Tag parseTag(String tag) throws ParseException {
         String trimmedTag = tag.trim();
         try {
-            Tag.isValidTagName(trimmedTag);
+            return Tag.of(trimmedTag);
         } catch (IllegalArgumentException e) {
             throw new ParseException(e.getMessage());
         }
-        return new Tag(trimmedTag);
     }
 
     /**
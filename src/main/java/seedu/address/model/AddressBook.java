@@ -2,12 +2,18 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.tag.Tag;
 
 /**
  * Wraps all data at the address-book level
@@ -15,7 +21,11 @@ import seedu.address.model.person.UniquePersonList;
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    // Shared by all instances so that diverging copies never end up with the same version
+    private static final AtomicLong versionSource = new AtomicLong();
+
     private final UniquePersonList persons;
+    private long version = versionSource.incrementAndGet();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -31,11 +41,13 @@ public class AddressBook implements ReadOnlyAddressBook {
     public AddressBook() {}
 
     /**
-     * Creates an AddressBook using the Persons in the {@code toBeCopied}
+     * Creates an AddressBook using the Persons in the {@code toBeCopied}.
+     * The copy keeps the version of {@code toBeCopied} until either is modified.
      */
     public AddressBook(ReadOnlyAddressBook toBeCopied) {
         this();
         resetData(toBeCopied);
+        version = toBeCopied.getVersion();
     }
 
     //// list overwrite operations
@@ -46,6 +58,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        markModified();
     }
 
     /**
@@ -73,6 +86,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        markModified();
     }
 
     /**
@@ -84,6 +98,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        markModified();
     }
 
     /**
@@ -92,6 +107,61 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        markModified();
+    }
+
+    /**
+     * Applies the person-level operations made by {@code edits} to the address book as one change to the
+     * person list. If any operation throws, the exception is passed on and the address book is left unchanged.
+     */
+    public void batch(Consumer<? super MutableBook> edits) {
+        if (persons.batch(edits)) {
+            markModified();
+        }
+    }
+
+    /**
+     * Returns the persons with a name word that starts with any of {@code prefixes}, ignoring case.
+     * The returned set compares persons by identity.
+     */
+    public Set<Person> findPersonsByNamePrefixes(Collection<String> prefixes) {
+        return persons.findByNamePrefixes(prefixes);
+    }
+
+    /**
+     * Returns the persons with a name word whose similarity with any of {@code keywords}, ignoring case,
+     * is at least {@code threshold}. The returned set compares persons by identity.
+     */
+    public Set<Person> findPersonsWithSimilarNames(Collection<String> keywords, double threshold) {
+        return persons.findBySimilarName(keywords, threshold);
+    }
+
+    /**
+     * Returns the persons carrying every one of {@code tags}, or no persons if {@code tags} is empty.
+     * The returned set compares persons by identity.
+     */
+    public Set<Person> findPersonsWithAllTags(Collection<Tag> tags) {
+        return persons.findByAllTags(tags);
+    }
+
+    /**
+     * Returns the persons carrying any of {@code tags}.
+     * The returned set compares persons by identity.
+     */
+    public Set<Person> findPersonsWithAnyTag(Collection<Tag> tags) {
+        return persons.findByAnyTag(tags);
+    }
+
+    /**
+     * Returns the number of persons carrying each tag as an unmodifiable {@code ObservableMap}.
+     * The map is kept up to date as persons change.
+     */
+    public ObservableMap<Tag, Integer> getTagCounts() {
+        return persons.getTagCounts();
+    }
+
+    private void markModified() {
+        version = versionSource.incrementAndGet();
     }
 
     //// util methods
@@ -108,6 +178,11 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
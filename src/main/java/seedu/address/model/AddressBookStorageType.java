@@ -0,0 +1,13 @@
+package seedu.address.model;
+
+/**
+ * The ways in which the address book can be kept on disk.
+ */
+public enum AddressBookStorageType {
+    /** The whole address book is rewritten as a json file on every save. */
+    JSON,
+    /** Changes are appended to a journal that is periodically compacted into a json snapshot. */
+    JOURNAL,
+    /** The whole address book is rewritten as a compact binary snapshot that loads without re-validation. */
+    BINARY
+}
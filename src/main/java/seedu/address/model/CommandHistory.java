@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -15,8 +16,10 @@ import seedu.address.commons.core.LogsCenter;
 public class CommandHistory implements ReadOnlyCommandHistory {
     private static final Logger logger = LogsCenter.getLogger(CommandHistory.class);
     private static final int MAX_HISTORY_SIZE = 100;
+    private static final AtomicLong versionSource = new AtomicLong();
     private final List<String> commandList;
     private int currentIndex = 0;
+    private long version = versionSource.incrementAndGet();
 
     public CommandHistory() {
         commandList = new ArrayList<>();
@@ -24,10 +27,12 @@ public class CommandHistory implements ReadOnlyCommandHistory {
 
     /**
      * Creates a CommandHistory using the List in the {@code toBeCopied}.
+     * The copy keeps the version of {@code toBeCopied} until either is modified.
      */
     public CommandHistory(ReadOnlyCommandHistory toBeCopied) {
         this();
         resetData(toBeCopied);
+        version = toBeCopied.getVersion();
     }
 
     /**
@@ -38,6 +43,7 @@ public class CommandHistory implements ReadOnlyCommandHistory {
         this.commandList.clear();
         this.commandList.addAll(commands);
         trimToSize();
+        version = versionSource.incrementAndGet();
     }
 
     /**
@@ -55,6 +61,7 @@ public class CommandHistory implements ReadOnlyCommandHistory {
         logger.fine("Adding command to history: " + command + ".");
         commandList.add(command);
         trimToSize();
+        version = versionSource.incrementAndGet();
     }
 
     /**
@@ -72,6 +79,11 @@ public class CommandHistory implements ReadOnlyCommandHistory {
         return new ArrayList<>(commandList);
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public String getPreviousCommand() {
         if (canNavigateBackward()) {
@@ -1,12 +1,17 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 
 /**
  * The API of the Model component.
@@ -87,6 +92,40 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Applies the additions, replacements and removals made by {@code edits} to the address book together.
+     * The person list is rebuilt, and its listeners notified, once for the whole batch rather than once per person.
+     * If any of the edits throws, the exception is passed on and the address book is left unchanged.
+     */
+    void batch(Consumer<? super MutableBook> edits);
+
+    /**
+     * Returns the persons in the address book with a name word that starts with any of {@code prefixes},
+     * ignoring case. The returned set compares persons by identity, so it can be used to filter the person list.
+     */
+    Set<Person> findPersonsByNamePrefixes(Collection<String> prefixes);
+
+    /**
+     * Returns the persons in the address book with a name word whose similarity with any of {@code keywords},
+     * ignoring case, is at least {@code threshold}. The returned set compares persons by identity.
+     */
+    Set<Person> findPersonsWithSimilarNames(Collection<String> keywords, double threshold);
+
+    /**
+     * Returns the persons in the address book carrying every one of {@code tags}, or no persons if {@code tags}
+     * is empty. The returned set compares persons by identity.
+     */
+    Set<Person> findPersonsWithAllTags(Collection<Tag> tags);
+
+    /**
+     * Returns the persons in the address book carrying any of {@code tags}.
+     * The returned set compares persons by identity.
+     */
+    Set<Person> findPersonsWithAnyTag(Collection<Tag> tags);
+
+    /** Returns an unmodifiable view of the number of persons carrying each tag, kept up to date as persons change */
+    ObservableMap<Tag, Integer> getTagCounts();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
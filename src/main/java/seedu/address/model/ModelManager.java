@@ -4,16 +4,21 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
 import javafx.collections.transformation.FilteredList;
 import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -40,7 +45,7 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         this.commandHistory = new CommandHistory(commandHistory);
-        this.filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        this.filteredPersons = new FilteredList<>(this.addressBook.getPersonList(), PREDICATE_SHOW_ALL_PERSONS);
         this.sortedPersons = new SortedList<>(filteredPersons);
     }
 
@@ -131,6 +136,41 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void batch(Consumer<? super MutableBook> edits) {
+        requireNonNull(edits);
+        addressBook.batch(edits);
+    }
+
+    @Override
+    public Set<Person> findPersonsByNamePrefixes(Collection<String> prefixes) {
+        requireNonNull(prefixes);
+        return addressBook.findPersonsByNamePrefixes(prefixes);
+    }
+
+    @Override
+    public Set<Person> findPersonsWithSimilarNames(Collection<String> keywords, double threshold) {
+        requireNonNull(keywords);
+        return addressBook.findPersonsWithSimilarNames(keywords, threshold);
+    }
+
+    @Override
+    public Set<Person> findPersonsWithAllTags(Collection<Tag> tags) {
+        requireNonNull(tags);
+        return addressBook.findPersonsWithAllTags(tags);
+    }
+
+    @Override
+    public Set<Person> findPersonsWithAnyTag(Collection<Tag> tags) {
+        requireNonNull(tags);
+        return addressBook.findPersonsWithAnyTag(tags);
+    }
+
+    @Override
+    public ObservableMap<Tag, Integer> getTagCounts() {
+        return addressBook.getTagCounts();
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -145,6 +185,11 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        // Setting a predicate re-tests every person, even if it is the one already set. Changes to the persons
+        // themselves are applied to the filtered and sorted lists one by one, so there is nothing to redo.
+        if (filteredPersons.getPredicate() == predicate) {
+            return;
+        }
         filteredPersons.setPredicate(predicate);
     }
 
@@ -155,6 +200,9 @@ public class ModelManager implements Model {
     @Override
     public void sortFilteredPersonList(Comparator<Person> comparator) {
         // Allow null, to have original ordering (by order of addition)
+        if (sortedPersons.getComparator() == comparator) {
+            return;
+        }
         sortedPersons.setComparator(comparator);
     }
 
@@ -0,0 +1,34 @@
+package seedu.address.model;
+
+import seedu.address.model.person.Person;
+
+/**
+ * The person-level operations available within {@link Model#batch(java.util.function.Consumer)}.
+ * The operations see the effects of the ones before them, but the address book only changes once the batch ends.
+ */
+public interface MutableBook {
+
+    /**
+     * Returns true if a person with the same identity as {@code person} exists in the address book.
+     */
+    boolean hasPerson(Person person);
+
+    /**
+     * Adds a person to the end of the address book.
+     * The person must not already exist in the address book.
+     */
+    void addPerson(Person person);
+
+    /**
+     * Replaces the given person {@code target} with {@code editedPerson}.
+     * {@code target} must exist in the address book.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     */
+    void setPerson(Person target, Person editedPerson);
+
+    /**
+     * Removes the equivalent person from the address book.
+     * The person must exist in the address book.
+     */
+    void removePerson(Person person);
+}
@@ -14,4 +14,10 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns a stamp that changes whenever the contents of this address book change.
+     * Address books with the same stamp have the same contents.
+     */
+    long getVersion();
+
 }
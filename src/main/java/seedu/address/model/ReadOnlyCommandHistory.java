@@ -11,6 +11,12 @@ public interface ReadOnlyCommandHistory {
      */
     List<String> getCommandHistory();
 
+    /**
+     * Returns a stamp that changes whenever the commands in this history change.
+     * Histories with the same stamp have the same commands.
+     */
+    long getVersion();
+
     /**
      * Returns the previous command in the history.
      */
@@ -15,4 +15,8 @@ public interface ReadOnlyUserPrefs {
 
     Path getCommandHistoryFilePath();
 
+    boolean isPrettyPrintAddressBookFile();
+
+    AddressBookStorageType getAddressBookStorageType();
+
 }
@@ -19,6 +19,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get(DEFAULT_DATA_PATH, DEFAULT_ADDRESS_BOOK_PATH);
     private Path commandHistoryFilePath = Paths.get(DEFAULT_DATA_PATH, DEFAULT_COMMAND_HISTORY_PATH);
+    private boolean prettyPrintAddressBookFile = false;
+    private AddressBookStorageType addressBookStorageType = AddressBookStorageType.JSON;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -41,6 +43,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
         setCommandHistoryFilePath(newUserPrefs.getCommandHistoryFilePath());
+        setPrettyPrintAddressBookFile(newUserPrefs.isPrettyPrintAddressBookFile());
+        setAddressBookStorageType(newUserPrefs.getAddressBookStorageType());
     }
 
     @Override
@@ -73,6 +77,25 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.commandHistoryFilePath = commandHistoryFilePath;
     }
 
+    @Override
+    public boolean isPrettyPrintAddressBookFile() {
+        return prettyPrintAddressBookFile;
+    }
+
+    public void setPrettyPrintAddressBookFile(boolean prettyPrintAddressBookFile) {
+        this.prettyPrintAddressBookFile = prettyPrintAddressBookFile;
+    }
+
+    @Override
+    public AddressBookStorageType getAddressBookStorageType() {
+        return addressBookStorageType;
+    }
+
+    public void setAddressBookStorageType(AddressBookStorageType addressBookStorageType) {
+        requireNonNull(addressBookStorageType);
+        this.addressBookStorageType = addressBookStorageType;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -87,12 +110,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
                 && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
-                && commandHistoryFilePath.equals(otherUserPrefs.commandHistoryFilePath);
+                && commandHistoryFilePath.equals(otherUserPrefs.commandHistoryFilePath)
+                && prettyPrintAddressBookFile == otherUserPrefs.prettyPrintAddressBookFile
+                && addressBookStorageType == otherUserPrefs.addressBookStorageType;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath, commandHistoryFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, commandHistoryFilePath, prettyPrintAddressBookFile,
+                addressBookStorageType);
     }
 
     @Override
@@ -101,6 +127,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
         sb.append("\nCommand History file location : " + commandHistoryFilePath);
+        sb.append("\nPretty-print address book file : " + prettyPrintAddressBookFile);
+        sb.append("\nAddress book storage type : " + addressBookStorageType);
         return sb.toString();
     }
 
@@ -6,7 +6,7 @@ import static java.util.Objects.requireNonNull;
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
  */
-public class Address {
+public class Address extends SearchableValue {
 
     public static final int MAX_LENGTH = 200;
     public static final String MESSAGE_CONSTRAINTS_LENGTH = "Addresses can be at most " + MAX_LENGTH
@@ -28,11 +28,29 @@ public class Address {
      * @param address A valid address.
      */
     public Address(String address) {
+        this(address, true);
+    }
+
+    private Address(String address, boolean shouldValidate) {
         requireNonNull(address);
-        isValidAddress(address);
+        if (shouldValidate) {
+            isValidAddress(address);
+        }
         value = address;
     }
 
+    /**
+     * Returns an {@code Address} holding {@code address} without validating it.
+     */
+    public static Address ofTrusted(String address) {
+        return new Address(address, false);
+    }
+
+    @Override
+    protected String getSearchText() {
+        return value;
+    }
+
     /**
      * Returns true if a given string is a valid email.
      */
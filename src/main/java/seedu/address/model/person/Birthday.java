@@ -23,10 +23,19 @@ public class Birthday {
 
     public static final String VALIDATION_REGEX = "\\d{2}-\\d{2}-\\d{4}";
 
+    /** The month-day key of 29 February, which only falls on a real date in leap years. */
+    public static final int LEAP_DAY_KEY = toMonthDayKey(2, 29);
+
+    /** A span larger than any difference between two month-day keys, so that adding it moves a key past them all. */
+    public static final int MONTH_DAY_KEY_SPAN = toMonthDayKey(13, 0);
+
+    private static final int DAYS_PER_MONTH_KEY = 32;
+
     public final LocalDate localDate;
 
     public final String value;
 
+    private final int monthDayKey;
 
     /**
      * Constructs a {@code Birthday}.
@@ -36,11 +45,25 @@ public class Birthday {
      * @throws IllegalArgumentException if {@code birthday} is invalid.
      */
     public Birthday(String birthday) {
+        this(birthday, true);
+    }
+
+    private Birthday(String birthday, boolean shouldValidate) {
         requireNonNull(birthday);
         birthday = birthday.trim();
-        isValidBirthday(birthday);
+        if (shouldValidate) {
+            isValidBirthday(birthday);
+        }
         value = birthday;
         localDate = setLocalDate(birthday);
+        monthDayKey = toMonthDayKey(localDate.getMonthValue(), localDate.getDayOfMonth());
+    }
+
+    /**
+     * Returns a {@code Birthday} holding {@code birthday} without validating it.
+     */
+    public static Birthday ofTrusted(String birthday) {
+        return new Birthday(birthday, false);
     }
 
     private LocalDate setLocalDate(String birthday) {
@@ -56,6 +79,25 @@ public class Birthday {
         return localDate;
     }
 
+    /**
+     * Returns the month and day of this birthday as an int that orders like {@link java.time.MonthDay}.
+     * Unlike the day of the year, the key does not depend on whether the year is a leap year.
+     */
+    public int getMonthDayKey() {
+        return monthDayKey;
+    }
+
+    /**
+     * Returns the month-day key of {@code date}, as returned by {@link #getMonthDayKey()}.
+     */
+    public static int toMonthDayKey(LocalDate date) {
+        return toMonthDayKey(date.getMonthValue(), date.getDayOfMonth());
+    }
+
+    private static int toMonthDayKey(int month, int day) {
+        return month * DAYS_PER_MONTH_KEY + day;
+    }
+
     public String getBirthdayStringFormatted() {
         return localDate.format(java.time.format.DateTimeFormatter.ofPattern("dd-MMM-yyyy"));
     }
@@ -0,0 +1,82 @@
+package seedu.address.model.person;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * An unmodifiable set of tags backed by a plain array.
+ * A person carries only a handful of tags, so scanning the array is as fast as hashing, and the set costs one small
+ * array instead of a hash table with an entry object per tag. Persons without tags all share one empty set.
+ */
+final class CompactTagSet extends AbstractSet<Tag> {
+
+    private static final CompactTagSet EMPTY = new CompactTagSet(new Tag[0]);
+
+    private final Tag[] tags;
+
+    private CompactTagSet(Tag[] tags) {
+        this.tags = tags;
+    }
+
+    /**
+     * Returns an unmodifiable set holding the tags in {@code tags}.
+     */
+    static CompactTagSet of(Set<Tag> tags) {
+        if (tags instanceof CompactTagSet) {
+            return (CompactTagSet) tags;
+        }
+        return tags.isEmpty() ? EMPTY : new CompactTagSet(tags.toArray(new Tag[0]));
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        for (Tag tag : tags) {
+            if (tag.equals(o)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        // The iterator of a fixed-size list rejects removal
+        return Arrays.asList(tags).iterator();
+    }
+
+    @Override
+    public int size() {
+        return tags.length;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+}
@@ -6,7 +6,7 @@ import static java.util.Objects.requireNonNull;
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
  */
-public class Email {
+public class Email extends SearchableValue {
 
     public static final int MAX_LENGTH = 100;
     public static final String MESSAGE_CONSTRAINTS_LENGTH = "Emails can be at most " + MAX_LENGTH
@@ -41,11 +41,29 @@ public class Email {
      * @param email A valid email address.
      */
     public Email(String email) {
+        this(email, true);
+    }
+
+    private Email(String email, boolean shouldValidate) {
         requireNonNull(email);
-        isValidEmail(email);
+        if (shouldValidate) {
+            isValidEmail(email);
+        }
         value = email;
     }
 
+    /**
+     * Returns an {@code Email} holding {@code email} without validating it.
+     */
+    public static Email ofTrusted(String email) {
+        return new Email(email, false);
+    }
+
+    @Override
+    protected String getSearchText() {
+        return value;
+    }
+
     /**
      * Returns if a given string is a valid email.
      */
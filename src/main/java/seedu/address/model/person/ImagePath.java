@@ -8,6 +8,9 @@ import java.util.Objects;
 public class ImagePath {
     public static final String MESSAGE_CONSTRAINTS = "Image path should be a valid path to a .png file";
     public static final String DEFAULT_IMAGE_RELATIVE_PATH = "src/main/resources/images/defaultUserPicture.png";
+
+    private static final ImagePath DEFAULT = createDefault();
+
     private final String path;
     /**
      * Constructs an instance of ImagePath
@@ -15,12 +18,23 @@ public class ImagePath {
      * @param pathString Path of the image, as a string
      */
     public ImagePath(String pathString) {
-        if (!isValidImagePath(pathString)) {
+        this(pathString, true);
+    }
+
+    private ImagePath(String pathString, boolean shouldValidate) {
+        if (shouldValidate && !isValidImagePath(pathString)) {
             throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
         }
         this.path = pathString;
     }
 
+    /**
+     * Returns an {@code ImagePath} holding {@code pathString} without validating it.
+     */
+    public static ImagePath ofTrusted(String pathString) {
+        return new ImagePath(pathString, false);
+    }
+
     /**
      * Returns the path of the image.
      *
@@ -30,7 +44,14 @@ public class ImagePath {
         return path;
     }
 
+    /**
+     * Returns the image path of persons without an image of their own, which all persons share.
+     */
     public static ImagePath getDefault() {
+        return DEFAULT;
+    }
+
+    private static ImagePath createDefault() {
         String resourceUrl = Objects.requireNonNull(
                 ImagePath.class.getResource("/images/defaultUserPicture.png")
         ).toExternalForm(); // Works in JARs
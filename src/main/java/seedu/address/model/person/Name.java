@@ -6,7 +6,7 @@ import static java.util.Objects.requireNonNull;
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
  */
-public class Name {
+public class Name extends SearchableValue {
 
     public static final int MAX_LENGTH = 150;
     public static final String MESSAGE_CONSTRAINTS_LENGTH = "Names can be at most " + MAX_LENGTH
@@ -29,11 +29,29 @@ public class Name {
      * @param name A valid name.
      */
     public Name(String name) {
+        this(name, true);
+    }
+
+    private Name(String name, boolean shouldValidate) {
         requireNonNull(name);
-        isValidName(name);
+        if (shouldValidate) {
+            isValidName(name);
+        }
         fullName = name;
     }
 
+    /**
+     * Returns a {@code Name} holding {@code name} without validating it.
+     */
+    public static Name ofTrusted(String name) {
+        return new Name(name, false);
+    }
+
+    @Override
+    protected String getSearchText() {
+        return fullName;
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
@@ -0,0 +1,109 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.commons.util.CharacterProfile;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An index from the lowercased words of persons' names to the persons whose names contain them.
+ * The words are kept sorted, so all words starting with a prefix form one contiguous range that is found
+ * without looking at any other word. Each distinct word also keeps its {@link CharacterProfile}, so fuzzy
+ * lookups score every distinct word at most once and skip most of them without computing their similarity.
+ *
+ * Persons are tracked by identity, as the same instances are held by the {@link UniquePersonList} that
+ * maintains this index.
+ */
+class NameTokenIndex {
+
+    private final NavigableMap<String, Token> tokens = new TreeMap<>();
+
+    /**
+     * Indexes every word in the name of {@code person}.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        for (String token : person.getName().getSearchKey().getTokens()) {
+            tokens.computeIfAbsent(token, Token::new).persons.add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person}, which must be the same instance that was added, from the index.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        for (String token : person.getName().getSearchKey().getTokens()) {
+            Token entry = tokens.get(token);
+            if (entry != null && entry.persons.remove(person) && entry.persons.isEmpty()) {
+                tokens.remove(token);
+            }
+        }
+    }
+
+    void clear() {
+        tokens.clear();
+    }
+
+    /**
+     * Returns the persons with a name word that starts with any of {@code prefixes}, ignoring case.
+     * The returned set compares persons by identity.
+     */
+    Set<Person> findByPrefixes(Collection<String> prefixes) {
+        requireNonNull(prefixes);
+        Set<Person> matches = newIdentitySet();
+        for (String prefix : prefixes) {
+            String lowerCasePrefix = prefix.toLowerCase();
+            tokens.subMap(lowerCasePrefix, true, lowerCasePrefix + Character.MAX_VALUE, true)
+                    .values()
+                    .forEach(entry -> matches.addAll(entry.persons));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the persons with a name word whose {@link StringUtil#calculateSimilarity(String, String)} with any of
+     * {@code keywords}, ignoring case, is at least {@code threshold}.
+     * The returned set compares persons by identity.
+     */
+    Set<Person> findSimilar(Collection<String> keywords, double threshold) {
+        requireNonNull(keywords);
+        Set<Person> matches = newIdentitySet();
+        for (String keyword : keywords) {
+            String lowerCaseKeyword = keyword.toLowerCase();
+            CharacterProfile keywordProfile = CharacterProfile.of(lowerCaseKeyword);
+            for (Map.Entry<String, Token> entry : tokens.entrySet()) {
+                Token token = entry.getValue();
+                if (keywordProfile.getSimilarityUpperBound(token.profile) >= threshold
+                        && StringUtil.isSimilarAtLeast(entry.getKey(), lowerCaseKeyword, threshold)) {
+                    matches.addAll(token.persons);
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static Set<Person> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * A distinct name word with the persons whose names contain it.
+     */
+    private static class Token {
+        private final CharacterProfile profile;
+        private final Set<Person> persons = newIdentitySet();
+
+        Token(String token) {
+            profile = CharacterProfile.of(token);
+        }
+    }
+}
@@ -6,7 +6,7 @@ import static java.util.Objects.requireNonNull;
  * Represents a Person's nickname in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidNickname(String)}.
  */
-public class Nickname {
+public class Nickname extends SearchableValue {
 
     public static final int MAX_LENGTH = 50;
     public static final String MESSAGE_CONSTRAINTS_LENGTH =
@@ -24,11 +24,29 @@ public class Nickname {
      * @param nickname A valid nickname.
      */
     public Nickname(String nickname) {
+        this(nickname, true);
+    }
+
+    private Nickname(String nickname, boolean shouldValidate) {
         requireNonNull(nickname);
-        isValidNickname(nickname);
+        if (shouldValidate) {
+            isValidNickname(nickname);
+        }
         this.nickname = nickname;
     }
 
+    /**
+     * Returns a {@code Nickname} holding {@code nickname} without validating it.
+     */
+    public static Nickname ofTrusted(String nickname) {
+        return new Nickname(nickname, false);
+    }
+
+    @Override
+    protected String getSearchText() {
+        return nickname;
+    }
+
     /**
      * Validates the nickname and throws an IllegalArgumentException with a specific message if invalid.
      */
@@ -6,7 +6,7 @@ import static java.util.Objects.requireNonNull;
  * Represents a Person's notes in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidNotes(String)}.
  */
-public class Notes {
+public class Notes extends SearchableValue {
 
     public static final int MAX_LENGTH = 300;
     public static final String MESSAGE_CONSTRAINTS_LENGTH =
@@ -24,11 +24,29 @@ public class Notes {
      * @param notes A valid notes string.
      */
     public Notes(String notes) {
+        this(notes, true);
+    }
+
+    private Notes(String notes, boolean shouldValidate) {
         requireNonNull(notes);
-        isValidNotes(notes);
+        if (shouldValidate) {
+            isValidNotes(notes);
+        }
         this.value = notes;
     }
 
+    /**
+     * Returns a {@code Notes} holding {@code notes} without validating it.
+     */
+    public static Notes ofTrusted(String notes) {
+        return new Notes(notes, false);
+    }
+
+    @Override
+    protected String getSearchText() {
+        return value;
+    }
+
     /**
      * Validates the given notes.
      *
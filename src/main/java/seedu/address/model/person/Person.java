@@ -2,8 +2,6 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -14,21 +12,24 @@ import seedu.address.model.tag.Tag;
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * An address book may hold a great many persons, so the optional fields are stored as nullable references rather
+ * than {@code Optional} objects, the tags as a {@link CompactTagSet}, and the default image path is shared.
  */
 public class Person {
 
     // Identity fields
     private final Name name;
-    private final Optional<Phone> phone;
-    private final Optional<Email> email;
-
-    // Data fields
-    private final Optional<Address> address;
-    private final Optional<Birthday> birthday;
-    private final Optional<Relationship> relationship;
-    private final Optional<Nickname> nickname;
-    private final Optional<Notes> notes;
-    private final Set<Tag> tags = new HashSet<>();
+    private final Phone phone;
+    private final Email email;
+
+    // Data fields, null when absent
+    private final Address address;
+    private final Birthday birthday;
+    private final Relationship relationship;
+    private final Nickname nickname;
+    private final Notes notes;
+    private final CompactTagSet tags;
     private final ImagePath imagePath;
 
     /**
@@ -39,15 +40,16 @@ public class Person {
                   Optional<Notes> notes, Optional<ImagePath> imagePath, Set<Tag> tags) {
         requireAllNonNull(name, phone, email, address, birthday, relationship, nickname, notes, imagePath, tags);
         this.name = name;
-        this.phone = phone.isPresent() ? phone : Optional.empty();
-        this.email = email.isPresent() ? email : Optional.empty();
-        this.address = address.isPresent() ? address : Optional.empty();
-        this.birthday = birthday.isPresent() ? birthday : Optional.empty();
-        this.relationship = relationship.isPresent() ? relationship : Optional.empty();
-        this.nickname = nickname.isPresent() ? nickname : Optional.empty();
-        this.notes = notes.isPresent() ? notes : Optional.empty();
-        this.tags.addAll(tags);
-        this.imagePath = imagePath.orElse(ImagePath.getDefault());
+        this.phone = phone.orElse(null);
+        this.email = email.orElse(null);
+        this.address = address.orElse(null);
+        this.birthday = birthday.orElse(null);
+        this.relationship = relationship.orElse(null);
+        this.nickname = nickname.orElse(null);
+        this.notes = notes.orElse(null);
+        this.tags = CompactTagSet.of(tags);
+        ImagePath defaultImagePath = ImagePath.getDefault();
+        this.imagePath = imagePath.filter(path -> !path.equals(defaultImagePath)).orElse(defaultImagePath);
     }
 
     public Name getName() {
@@ -55,49 +57,78 @@ public class Person {
     }
 
     public Optional<Phone> getPhone() {
-        return phone;
+        return Optional.ofNullable(phone);
     }
 
     public Optional<Email> getEmail() {
-        return email;
+        return Optional.ofNullable(email);
     }
 
     public Optional<Address> getAddress() {
-        return address;
+        return Optional.ofNullable(address);
     }
 
     public Optional<Birthday> getBirthday() {
-        return birthday;
+        return Optional.ofNullable(birthday);
     }
     public String getPhoneValue() {
-        return phone.map(Object::toString).orElse("");
+        return phone == null ? "" : phone.toString();
     }
     public String getEmailValue() {
-        return email.map(Object::toString).orElse("");
+        return email == null ? "" : email.toString();
     }
     public String getAddressValue() {
-        return address.map(Object::toString).orElse("");
+        return address == null ? "" : address.toString();
     }
     public String getBirthdayValue() {
-        return birthday.map(Object::toString).orElse("");
+        return birthday == null ? "" : birthday.toString();
     }
     public Optional<Relationship> getRelationship() {
-        return relationship;
+        return Optional.ofNullable(relationship);
     }
     public String getRelationshipValue() {
-        return relationship.map(Object::toString).orElse("");
+        return relationship == null ? "" : relationship.toString();
     }
     public Optional<Nickname> getNickname() {
-        return nickname;
+        return Optional.ofNullable(nickname);
     }
     public String getNicknameValue() {
-        return nickname.map(Object::toString).orElse("");
+        return nickname == null ? "" : nickname.toString();
     }
     public Optional<Notes> getNotes() {
-        return notes;
+        return Optional.ofNullable(notes);
     }
     public String getNotesValue() {
-        return notes.map(Object::toString).orElse("");
+        return notes == null ? "" : notes.toString();
+    }
+
+    // Null when absent; for filters and comparators that test every person and should not allocate an Optional
+    public Phone getPhoneOrNull() {
+        return phone;
+    }
+
+    public Email getEmailOrNull() {
+        return email;
+    }
+
+    public Address getAddressOrNull() {
+        return address;
+    }
+
+    public Birthday getBirthdayOrNull() {
+        return birthday;
+    }
+
+    public Relationship getRelationshipOrNull() {
+        return relationship;
+    }
+
+    public Nickname getNicknameOrNull() {
+        return nickname;
+    }
+
+    public Notes getNotesOrNull() {
+        return notes;
     }
 
     public ImagePath getImagePath() {
@@ -113,7 +144,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -146,19 +177,20 @@ public class Person {
 
         Person otherPerson = (Person) other;
         return name.equals(otherPerson.name)
-                && phone.equals(otherPerson.phone)
-                && email.equals(otherPerson.email)
-                && address.equals(otherPerson.address)
-                && birthday.equals(otherPerson.birthday)
-                && relationship.equals(otherPerson.relationship)
-                && nickname.equals(otherPerson.nickname)
-                && notes.equals(otherPerson.notes)
+                && Objects.equals(phone, otherPerson.phone)
+                && Objects.equals(email, otherPerson.email)
+                && Objects.equals(address, otherPerson.address)
+                && Objects.equals(birthday, otherPerson.birthday)
+                && Objects.equals(relationship, otherPerson.relationship)
+                && Objects.equals(nickname, otherPerson.nickname)
+                && Objects.equals(notes, otherPerson.notes)
                 && tags.equals(otherPerson.tags);
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
+        // absent fields hash as 0, just as an empty Optional does
         return Objects.hash(name, phone, email, address, birthday, relationship,
                             nickname, notes, tags);
     }
@@ -167,13 +199,13 @@ public class Person {
     public String toString() {
         return new ToStringBuilder(this)
                 .add("name", name)
-                .add("phone", phone)
-                .add("email", email)
-                .add("address", address)
-                .add("birthday", birthday)
-                .add("relationship", relationship)
-                .add("nickname", nickname)
-                .add("notes", notes)
+                .add("phone", getPhone())
+                .add("email", getEmail())
+                .add("address", getAddress())
+                .add("birthday", getBirthday())
+                .add("relationship", getRelationship())
+                .add("nickname", getNickname())
+                .add("notes", getNotes())
                 .add("tags", tags)
                 .toString();
     }
@@ -6,7 +6,7 @@ import static java.util.Objects.requireNonNull;
  * Represents a Person's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
  */
-public class Phone {
+public class Phone extends SearchableValue {
 
     public static final int MAX_LENGTH = 50;
     public static final String MESSAGE_CONSTRAINTS_LENGTH = "Phone numbers can be at most "
@@ -22,11 +22,29 @@ public class Phone {
      * @param phone A valid phone number.
      */
     public Phone(String phone) {
+        this(phone, true);
+    }
+
+    private Phone(String phone, boolean shouldValidate) {
         requireNonNull(phone);
-        isValidPhone(phone);
+        if (shouldValidate) {
+            isValidPhone(phone);
+        }
         value = phone;
     }
 
+    /**
+     * Returns a {@code Phone} holding {@code phone} without validating it.
+     */
+    public static Phone ofTrusted(String phone) {
+        return new Phone(phone, false);
+    }
+
+    @Override
+    protected String getSearchText() {
+        return value;
+    }
+
     /**
      * Returns true if a given string is a valid phone number.
      */
@@ -2,20 +2,32 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.InternPool;
+
 // ATTRIBUTION: this code was adapted from the Tag.java class created by Yijin, Liang,
 // Yong, Tan, Ullas, Rajapakse and Izq.
 
 /**
  * Represents a Relationship between User and Family Member in the address book.
  * Guarantees: immutable, name is valid as declared in {@Link #isValidRelationship(String)}.
+ *
+ * Many persons share the same few relationships, so {@link #of(String)} returns one shared instance per value,
+ * validated only when it is first created.
  */
-public class Relationship {
+public class Relationship extends SearchableValue {
 
     public static final int MAX_LENGTH = 50;
     public static final String MESSAGE_CONSTRAINTS_LENGTH = "Relationships can be at most " + MAX_LENGTH
             + " characters long";
     public static final String MESSAGE_CONSTRAINTS_CHARACTERS = "Relationships should have alphanumeric characters.";
     public static final String VALIDATION_REGEX = "[\\p{Alnum}\\s-]+";
+
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final int MAX_POOLED_RELATIONSHIPS = 10_000;
+    private static final InternPool<Relationship> pool = new InternPool<>(MAX_POOLED_RELATIONSHIPS);
+
     public final String relationship;
 
     /**
@@ -24,10 +36,43 @@ public class Relationship {
      * @param relationship A valid relationship to user.
      */
     public Relationship(String relationship) {
+        this(relationship, true);
+    }
+
+    private Relationship(String relationship, boolean shouldValidate) {
         requireNonNull(relationship);
-        isValidRelationship(relationship);
+        if (shouldValidate) {
+            isValidRelationship(relationship);
+        }
         this.relationship = relationship;
     }
+
+    /**
+     * Returns the shared {@code Relationship} holding {@code relationship}, validating it only if no such
+     * relationship exists yet.
+     *
+     * @throws IllegalArgumentException if {@code relationship} is not a valid relationship.
+     */
+    public static Relationship of(String relationship) {
+        return pool.intern(relationship, Relationship::new);
+    }
+
+    /**
+     * Returns the shared {@code Relationship} holding {@code relationship}, or an unshared one if it is not valid.
+     */
+    public static Relationship ofTrusted(String relationship) {
+        try {
+            return of(relationship);
+        } catch (IllegalArgumentException e) {
+            // Kept out of the pool, whose relationships of() hands out without validating them again
+            return new Relationship(relationship, false);
+        }
+    }
+
+    @Override
+    protected String getSearchText() {
+        return relationship;
+    }
     public String getRelationshipString() {
         return relationship;
     }
@@ -39,7 +84,7 @@ public class Relationship {
         if (test.length() > MAX_LENGTH) {
             throw new IllegalArgumentException(MESSAGE_CONSTRAINTS_LENGTH);
         }
-        if (!test.matches(VALIDATION_REGEX)) {
+        if (!VALIDATION_PATTERN.matcher(test).matches()) {
             throw new IllegalArgumentException(MESSAGE_CONSTRAINTS_CHARACTERS);
         }
         return true;
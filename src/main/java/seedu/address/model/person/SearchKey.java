@@ -0,0 +1,77 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * The normalized form of a field value that searches match against: its lowercased words, in order and sorted.
+ * A search key is computed once per value and shared by every predicate, so that testing a person does not
+ * lowercase, split or allocate anything.
+ */
+public class SearchKey {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final List<String> tokens;
+    private final String[] sortedTokens;
+    private final long tokenHash;
+
+    private SearchKey(String[] tokens) {
+        this.tokens = Collections.unmodifiableList(Arrays.asList(tokens));
+        this.sortedTokens = tokens.clone();
+        Arrays.sort(sortedTokens);
+        long hash = 0;
+        for (String token : tokens) {
+            hash |= token.isEmpty() ? 0 : getCharacterBit(token.charAt(0));
+        }
+        this.tokenHash = hash;
+    }
+
+    /**
+     * Returns the search key of {@code value}, whose words are separated by whitespace.
+     */
+    public static SearchKey of(String value) {
+        requireNonNull(value);
+        return new SearchKey(WHITESPACE.split(value.toLowerCase()));
+    }
+
+    /**
+     * Returns the lowercased words of the value, in the order they appear.
+     */
+    public List<String> getTokens() {
+        return tokens;
+    }
+
+    /**
+     * Returns a bit set of the first characters of the words, each character setting one of 64 bits.
+     * A prefix whose first character's bit is not set cannot start any of the words.
+     */
+    public long getTokenHash() {
+        return tokenHash;
+    }
+
+    /**
+     * Returns true if any word starts with {@code lowerCasePrefix}, which must already be lowercased.
+     */
+    public boolean hasTokenWithPrefix(String lowerCasePrefix) {
+        if (lowerCasePrefix.isEmpty()) {
+            return sortedTokens.length > 0;
+        }
+        if ((tokenHash & getCharacterBit(lowerCasePrefix.charAt(0))) == 0) {
+            return false;
+        }
+
+        // Words starting with the prefix sort right after it, so only the first word not below it needs checking
+        int index = Arrays.binarySearch(sortedTokens, lowerCasePrefix);
+        int candidate = index >= 0 ? index : -index - 1;
+        return candidate < sortedTokens.length && sortedTokens[candidate].startsWith(lowerCasePrefix);
+    }
+
+    private static long getCharacterBit(char c) {
+        return 1L << (c & 63);
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.address.model.person;
+
+/**
+ * A field value that searches match against through its {@link SearchKey}, which is computed the first time it is
+ * needed rather than for every value that is loaded.
+ */
+public abstract class SearchableValue {
+
+    // Computed on first use; a race only computes the same immutable key twice
+    private SearchKey searchKey;
+
+    /**
+     * Returns the normalized words of this value that searches match against.
+     */
+    public final SearchKey getSearchKey() {
+        SearchKey key = searchKey;
+        if (key == null) {
+            key = SearchKey.of(getSearchText());
+            searchKey = key;
+        }
+        return key;
+    }
+
+    /**
+     * Returns the text that the search key of this value is made from.
+     */
+    protected abstract String getSearchText();
+}
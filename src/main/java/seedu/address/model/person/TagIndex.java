@@ -0,0 +1,136 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableMap;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An index from tags to the persons that carry them, along with the number of persons carrying each tag.
+ * Looking up the persons with a set of tags only touches the persons carrying those tags, and the counts are
+ * kept up to date as persons are added and removed, so neither needs a scan of the whole list.
+ *
+ * Persons are tracked by identity, as the same instances are held by the {@link UniquePersonList} that
+ * maintains this index.
+ */
+class TagIndex {
+
+    private final Map<Tag, Set<Person>> personsByTag = new HashMap<>();
+    private final ObservableMap<Tag, Integer> tagCounts = FXCollections.observableHashMap();
+    private final ObservableMap<Tag, Integer> unmodifiableTagCounts =
+            FXCollections.unmodifiableObservableMap(tagCounts);
+
+    /**
+     * Indexes every tag of {@code person}.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        for (Tag tag : person.getTags()) {
+            Set<Person> persons = personsByTag.computeIfAbsent(tag, unused -> newIdentitySet());
+            persons.add(person);
+            tagCounts.put(tag, persons.size());
+        }
+    }
+
+    /**
+     * Removes {@code person}, which must be the same instance that was added, from the index.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        for (Tag tag : person.getTags()) {
+            Set<Person> persons = personsByTag.get(tag);
+            if (persons == null || !persons.remove(person)) {
+                continue;
+            }
+            if (persons.isEmpty()) {
+                personsByTag.remove(tag);
+                tagCounts.remove(tag);
+            } else {
+                tagCounts.put(tag, persons.size());
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with the tags of {@code persons}.
+     */
+    void setAll(Collection<Person> persons) {
+        requireNonNull(persons);
+        personsByTag.clear();
+        for (Person person : persons) {
+            for (Tag tag : person.getTags()) {
+                personsByTag.computeIfAbsent(tag, unused -> newIdentitySet()).add(person);
+            }
+        }
+
+        // Built aside and applied at once, so that listeners see each tag change once rather than per person
+        Map<Tag, Integer> counts = new HashMap<>();
+        personsByTag.forEach((tag, taggedPersons) -> counts.put(tag, taggedPersons.size()));
+        tagCounts.keySet().retainAll(counts.keySet());
+        counts.forEach((tag, count) -> {
+            if (!count.equals(tagCounts.get(tag))) {
+                tagCounts.put(tag, count);
+            }
+        });
+    }
+
+    /**
+     * Returns the persons carrying every one of {@code tags}, or no persons if {@code tags} is empty.
+     * The returned set compares persons by identity.
+     */
+    Set<Person> findWithAllTags(Collection<Tag> tags) {
+        requireNonNull(tags);
+        Set<Person> smallest = null;
+        for (Tag tag : tags) {
+            Set<Person> persons = personsByTag.getOrDefault(tag, Collections.emptySet());
+            if (smallest == null || persons.size() < smallest.size()) {
+                smallest = persons;
+            }
+        }
+
+        Set<Person> matches = newIdentitySet();
+        if (smallest == null) {
+            return matches;
+        }
+        // Only the persons carrying the rarest tag can carry them all
+        for (Person person : smallest) {
+            if (person.getTags().containsAll(tags)) {
+                matches.add(person);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the persons carrying any of {@code tags}.
+     * The returned set compares persons by identity.
+     */
+    Set<Person> findWithAnyTag(Collection<Tag> tags) {
+        requireNonNull(tags);
+        Set<Person> matches = newIdentitySet();
+        for (Tag tag : tags) {
+            matches.addAll(personsByTag.getOrDefault(tag, Collections.emptySet()));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of persons carrying each tag as an unmodifiable {@code ObservableMap}.
+     * Tags that no person carries are not in the map.
+     */
+    ObservableMap<Tag, Integer> getTagCounts() {
+        return unmodifiableTagCounts;
+    }
+
+    private static Set<Person> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
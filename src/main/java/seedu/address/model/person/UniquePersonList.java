@@ -3,13 +3,23 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
+import seedu.address.model.MutableBook;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -18,6 +28,11 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Since person identity is decided by name alone, the list also keeps a name-keyed index of positions so that
+ * identity checks and lookups do not need to scan the whole list. The words of every name are indexed as well,
+ * so that persons can be found by name prefix without testing every person, and so are the persons carrying
+ * each tag.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +42,29 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Integer> nameIndex = new HashMap<>();
+    private final NameTokenIndex nameTokenIndex = new NameTokenIndex();
+    private final TagIndex tagIndex = new TagIndex();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return nameIndex.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the position of {@code target} in the list, or -1 if the list does not contain it.
+     * Like {@link List#indexOf(Object)}, a match requires {@code Person#equals(Object)}.
+     */
+    public int indexOf(Person target) {
+        requireNonNull(target);
+        Integer index = nameIndex.get(target.getName());
+        if (index == null || !internalList.get(index).equals(target)) {
+            return -1;
+        }
+        return index;
     }
 
     /**
@@ -45,6 +76,9 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        nameIndex.put(toAdd.getName(), internalList.size());
+        nameTokenIndex.add(toAdd);
+        tagIndex.add(toAdd);
         internalList.add(toAdd);
     }
 
@@ -56,7 +90,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,6 +99,13 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        nameIndex.remove(target.getName());
+        nameIndex.put(editedPerson.getName(), index);
+        Person replaced = internalList.get(index);
+        nameTokenIndex.remove(replaced);
+        nameTokenIndex.add(editedPerson);
+        tagIndex.remove(replaced);
+        tagIndex.add(editedPerson);
         internalList.set(index, editedPerson);
     }
 
@@ -74,27 +115,120 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        Person removed = internalList.remove(index);
+        nameTokenIndex.remove(removed);
+        tagIndex.remove(removed);
+        nameIndex.remove(toRemove.getName());
+        reindexFrom(index);
+    }
+
+    /**
+     * Applies the additions, replacements and removals made by {@code edits} as one change to the list.
+     * The edits work on a staged copy of the list. Once they are done, the copy replaces the list in one change and
+     * the indexes are rebuilt, so a batch costs time linear in the size of the list however many persons it changes.
+     * If any edit throws, the exception is passed on and the list is left unchanged.
+     *
+     * @return true if the edits changed the list.
+     */
+    public boolean batch(Consumer<? super MutableBook> edits) {
+        requireNonNull(edits);
+        Batch batch = new Batch();
+        edits.accept(batch);
+        if (!batch.isChanged()) {
+            return false;
+        }
+
+        List<Person> persons = new ArrayList<>(batch.slots.size());
+        for (Person person : batch.slots) {
+            if (person != null) {
+                persons.add(person);
+            }
+        }
+        internalList.setAll(persons);
+        nameIndex.clear();
+        reindexFrom(0);
+        rebuildNameTokenIndex();
+        tagIndex.setAll(internalList);
+        return true;
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        nameIndex.clear();
+        nameIndex.putAll(replacement.nameIndex);
+        rebuildNameTokenIndex();
+        tagIndex.setAll(internalList);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     *
+     * @throws DuplicatePersonException listing every duplicated name if {@code persons} is not unique.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        List<Name> duplicateNames = findDuplicateNames(persons);
+        if (!duplicateNames.isEmpty()) {
+            throw new DuplicatePersonException(duplicateNames);
         }
 
         internalList.setAll(persons);
+        nameIndex.clear();
+        reindexFrom(0);
+        rebuildNameTokenIndex();
+        tagIndex.setAll(internalList);
+    }
+
+    /**
+     * Returns the persons with a name word that starts with any of {@code prefixes}, ignoring case.
+     * The returned set compares persons by identity, so it only recognises the instances held by this list.
+     */
+    public Set<Person> findByNamePrefixes(Collection<String> prefixes) {
+        requireNonNull(prefixes);
+        return nameTokenIndex.findByPrefixes(prefixes);
+    }
+
+    /**
+     * Returns the persons with a name word whose similarity with any of {@code keywords}, ignoring case,
+     * is at least {@code threshold}. The returned set compares persons by identity.
+     *
+     * @see seedu.address.commons.util.StringUtil#calculateSimilarity(String, String)
+     */
+    public Set<Person> findBySimilarName(Collection<String> keywords, double threshold) {
+        requireNonNull(keywords);
+        return nameTokenIndex.findSimilar(keywords, threshold);
+    }
+
+    /**
+     * Returns the persons carrying every one of {@code tags}, or no persons if {@code tags} is empty.
+     * The returned set compares persons by identity.
+     */
+    public Set<Person> findByAllTags(Collection<Tag> tags) {
+        requireNonNull(tags);
+        return tagIndex.findWithAllTags(tags);
+    }
+
+    /**
+     * Returns the persons carrying any of {@code tags}.
+     * The returned set compares persons by identity.
+     */
+    public Set<Person> findByAnyTag(Collection<Tag> tags) {
+        requireNonNull(tags);
+        return tagIndex.findWithAnyTag(tags);
+    }
+
+    /**
+     * Returns the number of persons carrying each tag as an unmodifiable {@code ObservableMap}.
+     */
+    public ObservableMap<Tag, Integer> getTagCounts() {
+        return tagIndex.getTagCounts();
     }
 
     /**
@@ -135,16 +269,100 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Refreshes the index entries of all persons at or after {@code start}, whose positions may have shifted.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private void reindexFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            nameIndex.put(internalList.get(i).getName(), i);
+        }
+    }
+
+    private void rebuildNameTokenIndex() {
+        nameTokenIndex.clear();
+        internalList.forEach(nameTokenIndex::add);
+    }
+
+    /**
+     * Returns the names that identify more than one person in {@code persons}, each reported once, in the order
+     * their first duplicate appears. Returns an empty list if {@code persons} contains only unique persons.
+     */
+    private static List<Name> findDuplicateNames(List<Person> persons) {
+        Set<Name> seenNames = new HashSet<>();
+        Set<Name> reportedNames = new HashSet<>();
+        List<Name> duplicateNames = new ArrayList<>();
+        for (Person person : persons) {
+            Name name = person.getName();
+            if (!seenNames.add(name) && reportedNames.add(name)) {
+                duplicateNames.add(name);
             }
         }
-        return true;
+        return duplicateNames;
+    }
+
+    /**
+     * A staged copy of the list that edits are applied to during {@link #batch(Consumer)}.
+     * Removed persons leave an empty slot behind, so that no edit has to shift the persons after it.
+     */
+    private class Batch implements MutableBook {
+        private final List<Person> slots = new ArrayList<>(internalList);
+        private final Map<Name, Integer> positions = new HashMap<>(nameIndex);
+        private boolean isChanged;
+
+        @Override
+        public boolean hasPerson(Person person) {
+            requireNonNull(person);
+            return positions.containsKey(person.getName());
+        }
+
+        @Override
+        public void addPerson(Person person) {
+            requireNonNull(person);
+            if (hasPerson(person)) {
+                throw new DuplicatePersonException();
+            }
+            positions.put(person.getName(), slots.size());
+            slots.add(person);
+            isChanged = true;
+        }
+
+        @Override
+        public void setPerson(Person target, Person editedPerson) {
+            requireAllNonNull(target, editedPerson);
+            int index = indexOf(target);
+            if (index == -1) {
+                throw new PersonNotFoundException();
+            }
+            if (!target.isSamePerson(editedPerson) && hasPerson(editedPerson)) {
+                throw new DuplicatePersonException();
+            }
+            positions.remove(target.getName());
+            positions.put(editedPerson.getName(), index);
+            slots.set(index, editedPerson);
+            isChanged |= !target.equals(editedPerson);
+        }
+
+        @Override
+        public void removePerson(Person person) {
+            requireNonNull(person);
+            int index = indexOf(person);
+            if (index == -1) {
+                throw new PersonNotFoundException();
+            }
+            positions.remove(person.getName());
+            slots.set(index, null);
+            isChanged = true;
+        }
+
+        boolean isChanged() {
+            return isChanged;
+        }
+
+        private int indexOf(Person target) {
+            Integer index = positions.get(target.getName());
+            if (index == null || !slots.get(index).equals(target)) {
+                return -1;
+            }
+            return index;
+        }
     }
 }
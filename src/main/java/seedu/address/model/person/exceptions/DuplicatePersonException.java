@@ -1,11 +1,37 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Name;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+    private final List<Name> duplicateNames;
+
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
+        duplicateNames = Collections.emptyList();
+    }
+
+    /**
+     * Creates a {@code DuplicatePersonException} that reports every name shared by more than one person.
+     */
+    public DuplicatePersonException(List<Name> duplicateNames) {
+        super("Operation would result in duplicate persons: " + duplicateNames.stream()
+                .map(Name::toString)
+                .collect(Collectors.joining(", ")));
+        this.duplicateNames = List.copyOf(duplicateNames);
+    }
+
+    /**
+     * Returns the names that would be duplicated, or an empty list if they were not reported.
+     */
+    public List<Name> getDuplicateNames() {
+        return duplicateNames;
     }
 }
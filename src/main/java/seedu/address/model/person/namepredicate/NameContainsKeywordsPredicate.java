@@ -1,29 +1,36 @@
 package seedu.address.model.person.namepredicate;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchKey;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final String[] lowerCaseKeywords;
 
+    /**
+     * Constructs a predicate that matches names with a word starting with any of {@code keywords}.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.lowerCaseKeywords = keywords.stream().map(String::toLowerCase).toArray(String[]::new);
     }
 
     @Override
     public boolean test(Person person) {
-        String fullName = person.getName().fullName.toLowerCase();
-        List<String> nameWords = Arrays.asList(fullName.split("\\s+"));
-        return keywords.stream()
-                .map(keyword -> keyword.toLowerCase())
-                .anyMatch(keyword -> nameWords.stream().anyMatch(word -> word.startsWith(keyword)));
+        SearchKey searchKey = person.getName().getSearchKey();
+        for (String keyword : lowerCaseKeywords) {
+            if (searchKey.hasTokenWithPrefix(keyword)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -1,6 +1,5 @@
 package seedu.address.model.person.namepredicate;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -17,23 +16,27 @@ import seedu.address.model.person.Person;
  * score above the threshold (default set to 0.6), the predicate evaluates to true.
  */
 public class NameSimilarPredicate implements Predicate<Person> {
-    private static double threshold = 0.6;
+    public static final double THRESHOLD = 0.6;
 
     private final List<String> keywords;
+    private final String[] lowerCaseKeywords;
+
+    /**
+     * Constructs a predicate that matches names with a word similar to any of {@code keywords}.
+     */
     public NameSimilarPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.lowerCaseKeywords = keywords.stream().map(String::toLowerCase).toArray(String[]::new);
     }
 
     @Override
     public boolean test(Person person) {
         assert person != null;
-        String fullName = person.getName().fullName.toLowerCase();
-        List<String> nameWords = Arrays.asList(fullName.split("\\s+"));
+        List<String> nameWords = person.getName().getSearchKey().getTokens();
 
-        for (String keyword : keywords) {
-            String keywordLowerCase = keyword.toLowerCase();
-            for (String word : nameWords) {
-                if (StringUtil.calculateSimilarity(word, keywordLowerCase) >= threshold) {
+        for (String keyword : lowerCaseKeywords) {
+            for (int i = 0; i < nameWords.size(); i++) {
+                if (StringUtil.isSimilarAtLeast(nameWords.get(i), keyword, THRESHOLD)) {
                     return true;
                 }
             }
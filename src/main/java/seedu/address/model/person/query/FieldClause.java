@@ -0,0 +1,85 @@
+package seedu.address.model.person.query;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a word of one field of a {@code Person} starts with any of the given keywords, ignoring case.
+ */
+public class FieldClause implements Predicate<Person> {
+
+    /**
+     * Orders clauses from the cheapest field to test, and within a field from the most selective clause.
+     * A clause matches if any of its keywords does, so its shortest keyword decides how selective it is.
+     */
+    static final Comparator<FieldClause> BY_ESTIMATED_COST = Comparator.comparing(FieldClause::getField)
+            .thenComparing(Comparator.comparingInt(FieldClause::getShortestKeywordLength).reversed());
+
+    private final SearchField field;
+    private final List<String> keywords;
+    private final String[] lowerCaseKeywords;
+
+    /**
+     * Constructs a clause matching {@code field} against {@code keywords}, which must not be empty.
+     */
+    public FieldClause(SearchField field, List<String> keywords) {
+        requireAllNonNull(field, keywords);
+        checkArgument(!keywords.isEmpty(), "A clause needs at least one keyword");
+        this.field = field;
+        this.keywords = List.copyOf(keywords);
+        this.lowerCaseKeywords = keywords.stream().map(String::toLowerCase).toArray(String[]::new);
+    }
+
+    public SearchField getField() {
+        return field;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    private int getShortestKeywordLength() {
+        int shortest = Integer.MAX_VALUE;
+        for (String keyword : lowerCaseKeywords) {
+            shortest = Math.min(shortest, keyword.length());
+        }
+        return shortest;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return field.matches(person, lowerCaseKeywords);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FieldClause)) {
+            return false;
+        }
+
+        FieldClause otherFieldClause = (FieldClause) other;
+        return field == otherFieldClause.field && keywords.equals(otherFieldClause.keywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return field.hashCode() * 31 + keywords.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("field", field).add("keywords", keywords).toString();
+    }
+}
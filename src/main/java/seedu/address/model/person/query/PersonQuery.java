@@ -0,0 +1,124 @@
+package seedu.address.model.person.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} satisfies every one of a list of {@link FieldClause}s.
+ * Clauses are evaluated from the cheapest and most selective, so most persons are rejected by the first clause.
+ */
+public class PersonQuery implements Predicate<Person> {
+
+    private final List<FieldClause> clauses;
+    private final FieldClause[] orderedClauses;
+
+    /**
+     * Constructs a query that matches persons satisfying all of {@code clauses}, which must not be empty.
+     */
+    public PersonQuery(List<FieldClause> clauses) {
+        requireNonNull(clauses);
+        checkArgument(!clauses.isEmpty(), "A query needs at least one clause");
+        this.clauses = List.copyOf(clauses);
+        this.orderedClauses = clauses.stream().sorted(FieldClause.BY_ESTIMATED_COST).toArray(FieldClause[]::new);
+    }
+
+    public List<FieldClause> getClauses() {
+        return clauses;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (FieldClause clause : orderedClauses) {
+            if (!clause.test(person)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a predicate equivalent to this query that resolves the clauses backed by an index in {@code model}
+     * up front, so that testing a person only checks set membership for those clauses.
+     */
+    public Predicate<Person> compile(Model model) {
+        requireNonNull(model);
+        List<Set<Person>> candidateSets = new ArrayList<>();
+        List<FieldClause> remainingClauses = new ArrayList<>();
+        for (FieldClause clause : orderedClauses) {
+            if (clause.getField() == SearchField.NAME) {
+                candidateSets.add(model.findPersonsByNamePrefixes(clause.getKeywords()));
+            } else {
+                remainingClauses.add(clause);
+            }
+        }
+        candidateSets.sort(Comparator.comparingInt(Set::size));
+        if (!candidateSets.isEmpty() && candidateSets.get(0).isEmpty()) {
+            return unused -> false;
+        }
+        return new CompiledQuery(candidateSets, remainingClauses);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonQuery)) {
+            return false;
+        }
+
+        PersonQuery otherPersonQuery = (PersonQuery) other;
+        return clauses.equals(otherPersonQuery.clauses);
+    }
+
+    @Override
+    public int hashCode() {
+        return clauses.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("clauses", clauses).toString();
+    }
+
+    /**
+     * A query whose indexed clauses have been resolved into candidate sets, smallest first.
+     */
+    private static class CompiledQuery implements Predicate<Person> {
+        private final Set<Person>[] candidateSets;
+        private final FieldClause[] clauses;
+
+        @SuppressWarnings("unchecked")
+        CompiledQuery(List<Set<Person>> candidateSets, List<FieldClause> clauses) {
+            this.candidateSets = candidateSets.toArray(new Set[0]);
+            this.clauses = clauses.toArray(new FieldClause[0]);
+        }
+
+        @Override
+        public boolean test(Person person) {
+            for (Set<Person> candidates : candidateSets) {
+                if (!candidates.contains(person)) {
+                    return false;
+                }
+            }
+            for (FieldClause clause : clauses) {
+                if (!clause.test(person)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
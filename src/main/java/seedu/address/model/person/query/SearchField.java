@@ -0,0 +1,78 @@
+package seedu.address.model.person.query;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchKey;
+import seedu.address.model.person.SearchableValue;
+import seedu.address.model.tag.Tag;
+
+/**
+ * The fields of a {@code Person} that a {@link PersonQuery} can search, from the cheapest to test to the costliest.
+ */
+public enum SearchField {
+    NAME("name"),
+    TAG("tag"),
+    RELATIONSHIP("relationship"),
+    PHONE("phone"),
+    EMAIL("email"),
+    NICKNAME("nickname"),
+    ADDRESS("address"),
+    NOTES("notes");
+
+    private final String description;
+
+    SearchField(String description) {
+        this.description = description;
+    }
+
+    /**
+     * Returns true if a word of this field of {@code person} starts with any of {@code lowerCaseKeywords}.
+     */
+    boolean matches(Person person, String[] lowerCaseKeywords) {
+        switch (this) {
+        case NAME:
+            return matches(person.getName(), lowerCaseKeywords);
+        case TAG:
+            for (Tag tag : person.getTags()) {
+                if (matches(tag, lowerCaseKeywords)) {
+                    return true;
+                }
+            }
+            return false;
+        case RELATIONSHIP:
+            return matches(person.getRelationshipOrNull(), lowerCaseKeywords);
+        case PHONE:
+            return matches(person.getPhoneOrNull(), lowerCaseKeywords);
+        case EMAIL:
+            return matches(person.getEmailOrNull(), lowerCaseKeywords);
+        case NICKNAME:
+            return matches(person.getNicknameOrNull(), lowerCaseKeywords);
+        case ADDRESS:
+            return matches(person.getAddressOrNull(), lowerCaseKeywords);
+        case NOTES:
+            return matches(person.getNotesOrNull(), lowerCaseKeywords);
+        default:
+            throw new AssertionError("Unknown search field " + this);
+        }
+    }
+
+    /**
+     * Returns true if {@code value} is present and a word of it starts with any of {@code lowerCaseKeywords}.
+     */
+    private static boolean matches(SearchableValue value, String[] lowerCaseKeywords) {
+        if (value == null) {
+            return false;
+        }
+        SearchKey searchKey = value.getSearchKey();
+        for (String keyword : lowerCaseKeywords) {
+            if (searchKey.hasTokenWithPrefix(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
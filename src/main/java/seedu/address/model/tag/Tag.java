@@ -2,11 +2,19 @@ package seedu.address.model.tag;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.InternPool;
+import seedu.address.model.person.SearchableValue;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ *
+ * An address book has few distinct tags shared by many persons, so {@link #of(String)} returns one shared instance
+ * per tag name, validated only when it is first created.
  */
-public class Tag {
+public class Tag extends SearchableValue {
     public static final int MAX_LENGTH = 30;
     public static final int MAX_NUM = 10;
     public static final String MESSAGE_CONSTRAINTS_NUM = "Number of tags cannot exceed " + MAX_NUM;
@@ -15,6 +23,10 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS_CHARACTERS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final int MAX_POOLED_TAGS = 10_000;
+    private static final InternPool<Tag> pool = new InternPool<>(MAX_POOLED_TAGS);
+
     public final String tagName;
 
     /**
@@ -23,16 +35,48 @@ public class Tag {
      * @param tagName A valid tag name.
      */
     public Tag(String tagName) {
+        this(tagName, true);
+    }
+
+    private Tag(String tagName, boolean shouldValidate) {
         requireNonNull(tagName);
-        isValidTagName(tagName);
+        if (shouldValidate) {
+            isValidTagName(tagName);
+        }
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the shared {@code Tag} named {@code tagName}, validating the name only if no such tag exists yet.
+     *
+     * @throws IllegalArgumentException if {@code tagName} is not a valid tag name.
+     */
+    public static Tag of(String tagName) {
+        return pool.intern(tagName, Tag::new);
+    }
+
+    /**
+     * Returns the shared {@code Tag} named {@code tagName}, or an unshared one if the name is not valid.
+     */
+    public static Tag ofTrusted(String tagName) {
+        try {
+            return of(tagName);
+        } catch (IllegalArgumentException e) {
+            // Kept out of the pool, whose tags of() hands out without validating them again
+            return new Tag(tagName, false);
+        }
+    }
+
+    @Override
+    protected String getSearchText() {
+        return tagName;
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        if (!test.matches(VALIDATION_REGEX)) {
+        if (!VALIDATION_PATTERN.matcher(test).matches()) {
             throw new IllegalArgumentException(MESSAGE_CONSTRAINTS_CHARACTERS);
         }
         if (test.length() > MAX_LENGTH) {
@@ -29,7 +29,7 @@ public class SampleDataUtil {
                     Optional.of(new Email("alexyeoh@example.com")),
                     Optional.of(new Address("Blk 30 Geylang Street 29, #06-40")),
                     Optional.of(new Birthday("01-01-1990")),
-                    Optional.of(new Relationship("Brother")),
+                    Optional.of(Relationship.of("Brother")),
                     Optional.of(new Nickname("Al")),
                     Optional.of(new Notes("Likes photography")), Optional.empty(),
                     getTagSet("friends")),
@@ -38,7 +38,7 @@ public class SampleDataUtil {
                     Optional.of(new Email("berniceyu@example.com")),
                     Optional.of(new Address("Blk 30 Lorong 3 Serangoon Gardens, #07-18")),
                     Optional.of(new Birthday("15-03-1992")),
-                    Optional.of(new Relationship("Kor Kor")),
+                    Optional.of(Relationship.of("Kor Kor")),
                     Optional.of(new Nickname("Bernie")), Optional.empty(), Optional.empty(),
                     getTagSet("colleagues", "friends")),
             new Person(new Name("Charlotte Oliveiro"),
@@ -46,7 +46,7 @@ public class SampleDataUtil {
                     Optional.of(new Email("charlotte@example.com")),
                     Optional.of(new Address("Blk 11 Ang Mo Kio Street 74, #11-04")),
                     Optional.of(new Birthday("22-07-1995")),
-                    Optional.of(new Relationship("Cousin")), Optional.empty(),
+                    Optional.of(Relationship.of("Cousin")), Optional.empty(),
                     Optional.of(new Notes("Allergic to peanuts")), Optional.empty(),
                     getTagSet("neighbours")),
             new Person(new Name("David Li"),
@@ -54,7 +54,7 @@ public class SampleDataUtil {
                     Optional.of(new Email("lidavid@example.com")),
                     Optional.of(new Address("Blk 436 Serangoon Gardens Street 26, #16-43")),
                     Optional.of(new Birthday("30-12-1989")),
-                    Optional.of(new Relationship("Old Classmate")),
+                    Optional.of(Relationship.of("Old Classmate")),
                     Optional.of(new Nickname("Dave")),
                     Optional.of(new Notes("Prefers email contact")), Optional.empty(),
                     getTagSet("family")),
@@ -63,7 +63,7 @@ public class SampleDataUtil {
                     Optional.of(new Email("irfan@example.com")),
                     Optional.of(new Address("Blk 47 Tampines Street 20, #17-35")),
                     Optional.of(new Birthday("05-09-1993")),
-                    Optional.of(new Relationship("Tutor")), Optional.empty(), Optional.empty(),
+                    Optional.of(Relationship.of("Tutor")), Optional.empty(), Optional.empty(),
                     Optional.empty(),
                     getTagSet("classmates")),
             new Person(new Name("Roy Balakrishnan"),
@@ -71,7 +71,7 @@ public class SampleDataUtil {
                     Optional.of(new Email("royb@example.com")),
                     Optional.of(new Address("Blk 45 Aljunied Street 85, #11-31")),
                     Optional.of(new Birthday("12-06-1988")),
-                    Optional.of(new Relationship("Best-Friend")),
+                    Optional.of(Relationship.of("Best-Friend")),
                     Optional.of(new Nickname("RB")),
                     Optional.of(new Notes("Birthday gift idea: books")), Optional.empty(),
                     getTagSet("colleagues"))
@@ -90,7 +90,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(Tag::of)
                 .collect(Collectors.toSet());
     }
 
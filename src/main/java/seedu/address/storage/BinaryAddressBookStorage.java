@@ -0,0 +1,307 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Birthday;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.ImagePath;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Nickname;
+import seedu.address.model.person.Notes;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Relationship;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a compact binary snapshot on the hard disk.
+ * <p>
+ * The file starts with a magic number and a format version, followed by the number of persons and each person's
+ * fields as length-prefixed UTF-8 strings, and ends with a CRC32 checksum of everything before it. Only validated
+ * persons are ever written, so once the checksum of a file matches, its fields are loaded with the {@code ofTrusted}
+ * factories of the model classes, which skip validating them again.
+ * Json remains the format for export and for {@link JsonAddressBookStorage}.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+    public static final int BACKUP_COUNT = 3;
+
+    static final int MAGIC = 0x41424B31; // "ABK1"
+    static final int FORMAT_VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+    private static final int ABSENT = -1;
+
+    private final Path filePath;
+    private final Optional<Path> legacyJsonFilePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, null);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} that reads the json file at {@code legacyJsonFilePath}
+     * when no binary snapshot exists yet, so existing data carries over until the first save.
+     */
+    public BinaryAddressBookStorage(Path filePath, Path legacyJsonFilePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.legacyJsonFilePath = Optional.ofNullable(legacyJsonFilePath);
+    }
+
+    /**
+     * Returns the path of the binary snapshot that takes the place of the json file at {@code jsonFilePath}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return jsonFilePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath}.
+     * If it is missing or corrupted, the newest readable backup is used instead, and if there is neither,
+     * the legacy json file is read.
+     *
+     * @throws DataLoadingException if the snapshot is corrupted and no backup could be loaded.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        try {
+            Optional<ReadOnlyAddressBook> addressBook = readSnapshot(filePath);
+            if (addressBook.isPresent()) {
+                return addressBook;
+            }
+            addressBook = readNewestBackup(filePath);
+            return addressBook.isPresent() ? addressBook : readLegacyJsonFile();
+        } catch (DataLoadingException e) {
+            Optional<ReadOnlyAddressBook> backup = readNewestBackup(filePath);
+            if (backup.isEmpty()) {
+                throw e;
+            }
+            return backup;
+        }
+    }
+
+    private Optional<ReadOnlyAddressBook> readNewestBackup(Path filePath) {
+        for (int index = 1; index <= BACKUP_COUNT; index++) {
+            Path backupFilePath = FileUtil.getBackupFilePath(filePath, index);
+            try {
+                Optional<ReadOnlyAddressBook> addressBook = readSnapshot(backupFilePath);
+                if (addressBook.isPresent()) {
+                    logger.warning("Loaded data from backup " + backupFilePath);
+                    return addressBook.map(RecoveredAddressBook::of);
+                }
+            } catch (DataLoadingException e) {
+                logger.warning("Skipping unreadable backup " + backupFilePath);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Optional<ReadOnlyAddressBook> readLegacyJsonFile() throws DataLoadingException {
+        if (legacyJsonFilePath.isEmpty() || !Files.exists(legacyJsonFilePath.get())) {
+            return Optional.empty();
+        }
+        logger.info("No binary snapshot found, reading " + legacyJsonFilePath.get());
+        return new JsonAddressBookStorage(legacyJsonFilePath.get()).readAddressBook().map(RecoveredAddressBook::of);
+    }
+
+    private static Optional<ReadOnlyAddressBook> readSnapshot(Path filePath) throws DataLoadingException {
+        try {
+            byte[] bytes = Files.readAllBytes(filePath);
+            int payloadLength = bytes.length - Long.BYTES;
+            if (payloadLength < 0) {
+                throw new EOFException();
+            }
+            // Nothing is decoded before the checksum matches, as the persons are created without validation
+            CRC32 checksum = new CRC32();
+            checksum.update(bytes, 0, payloadLength);
+            if (ByteBuffer.wrap(bytes, payloadLength, Long.BYTES).getLong() != checksum.getValue()) {
+                throw new IllegalValueException("Snapshot checksum does not match its contents");
+            }
+
+            DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes, 0, payloadLength));
+            if (input.readInt() != MAGIC) {
+                throw new IllegalValueException("Not an address book snapshot");
+            }
+            int formatVersion = input.readInt();
+            if (formatVersion != FORMAT_VERSION) {
+                throw new IllegalValueException("Unsupported snapshot format version " + formatVersion);
+            }
+
+            int personCount = input.readInt();
+            List<Person> persons = new ArrayList<>();
+            for (int i = 0; i < personCount; i++) {
+                persons.add(readPerson(input));
+            }
+            if (input.available() != 0) {
+                throw new IllegalValueException("Snapshot holds data after its last person");
+            }
+
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+            return Optional.of(addressBook);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (EOFException e) {
+            logger.info("Snapshot " + filePath + " is truncated");
+            throw new DataLoadingException(e);
+        } catch (IOException | IllegalValueException | DuplicatePersonException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private static Person readPerson(DataInputStream input) throws IOException, IllegalValueException {
+        Optional<Name> name = readField(input, Name::ofTrusted);
+        if (name.isEmpty()) {
+            throw new IllegalValueException("Snapshot holds a person without a name");
+        }
+        Optional<Phone> phone = readField(input, Phone::ofTrusted);
+        Optional<Email> email = readField(input, Email::ofTrusted);
+        Optional<Address> address = readField(input, Address::ofTrusted);
+        Optional<Birthday> birthday = readField(input, Birthday::ofTrusted);
+        Optional<Relationship> relationship = readField(input, Relationship::ofTrusted);
+        Optional<Nickname> nickname = readField(input, Nickname::ofTrusted);
+        Optional<Notes> notes = readField(input, Notes::ofTrusted);
+        Optional<ImagePath> imagePath = readField(input, ImagePath::ofTrusted);
+
+        int tagCount = input.readInt();
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(Tag.ofTrusted(readString(input)));
+        }
+        return new Person(name.get(), phone, email, address, birthday, relationship, nickname, notes, imagePath,
+                tags);
+    }
+
+    private static <T> Optional<T> readField(DataInputStream input, Function<String, T> factory) throws IOException {
+        int length = input.readInt();
+        return length == ABSENT ? Optional.empty() : Optional.of(factory.apply(readString(input, length)));
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        return readString(input, input.readInt());
+    }
+
+    private static String readString(DataInputStream input, int length) throws IOException {
+        if (length < 0) {
+            throw new IOException("Negative field length " + length);
+        }
+        // readNBytes grows its buffer as data arrives, so a corrupted length cannot allocate more than the file holds
+        byte[] bytes = input.readNBytes(length);
+        if (bytes.length != length) {
+            throw new EOFException();
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code filePath} atomically, keeping the previous snapshots as backups.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.writeToFileAtomically(filePath, BACKUP_COUNT, outputStream -> writeSnapshot(addressBook,
+                outputStream));
+    }
+
+    private static void writeSnapshot(ReadOnlyAddressBook addressBook, OutputStream outputStream)
+            throws IOException {
+        CRC32 checksum = new CRC32();
+        DataOutputStream output = new DataOutputStream(new CheckedOutputStream(outputStream, checksum));
+        output.writeInt(MAGIC);
+        output.writeInt(FORMAT_VERSION);
+
+        List<Person> persons = addressBook.getPersonList();
+        output.writeInt(persons.size());
+        for (Person person : persons) {
+            writePerson(person, output);
+        }
+        output.flush();
+        new DataOutputStream(outputStream).writeLong(checksum.getValue());
+    }
+
+    private static void writePerson(Person person, DataOutputStream output) throws IOException {
+        writeString(person.getName().fullName, output);
+        writeField(person.getPhone(), output);
+        writeField(person.getEmail(), output);
+        writeField(person.getAddress(), output);
+        writeField(person.getBirthday(), output);
+        writeField(person.getRelationship(), output);
+        writeField(person.getNickname(), output);
+        writeField(person.getNotes(), output);
+        writeString(person.getImagePathValue(), output);
+
+        Set<Tag> tags = person.getTags();
+        output.writeInt(tags.size());
+        for (Tag tag : tags) {
+            writeString(tag.tagName, output);
+        }
+    }
+
+    private static void writeField(Optional<?> field, DataOutputStream output) throws IOException {
+        if (field.isPresent()) {
+            writeString(field.get().toString(), output);
+        } else {
+            output.writeInt(ABSENT);
+        }
+    }
+
+    private static void writeString(String value, DataOutputStream output) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+}
@@ -0,0 +1,304 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal of changes.
+ * <p>
+ * The snapshot is an ordinary address book json file, so it can also be read by {@link JsonAddressBookStorage}.
+ * Each save appends one line per added, edited or deleted person to a sibling journal file instead of rewriting
+ * the snapshot. Once the journal grows past a threshold, it is compacted by writing a fresh snapshot and deleting
+ * the journal. Journal records are idempotent, so replaying a journal over a snapshot it was already compacted into
+ * is harmless. A journal is never replayed over an older backup of the snapshot, as it may depend on changes that
+ * only the lost snapshot held.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String UNAPPLIED_JOURNAL_FILE_SUFFIX = ".unapplied";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+    private static final int DEFAULT_SYNC_BATCH_SIZE = 32;
+    private static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private final Path filePath;
+    private final JsonAddressBookStorage snapshotStorage;
+    private final int syncBatchSize;
+    private final int compactionThreshold;
+
+    // What is known to be on disk at persistedFilePath, keyed by name in book order
+    private Path persistedFilePath;
+    private Map<Name, Person> persistedPersons;
+    private int journalRecordCount;
+    private int unsyncedRecordCount;
+
+    public JournalAddressBookStorage(Path filePath, boolean isPrettyPrinted) {
+        this(filePath, isPrettyPrinted, DEFAULT_SYNC_BATCH_SIZE, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that forces the journal to disk every {@code syncBatchSize}
+     * records and compacts it into the snapshot once it holds more than {@code compactionThreshold} records.
+     */
+    public JournalAddressBookStorage(Path filePath, boolean isPrettyPrinted, int syncBatchSize,
+            int compactionThreshold) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.snapshotStorage = new JsonAddressBookStorage(filePath, isPrettyPrinted);
+        this.syncBatchSize = syncBatchSize;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the journal file that accompanies the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} and replays its journal over it.
+     * A truncated final journal line, left behind by a crash mid-append, is ignored.
+     * If the snapshot is missing or corrupt and a backup of it is read instead, the journal is not replayed but
+     * renamed with {@link #UNAPPLIED_JOURNAL_FILE_SUFFIX}, so that its records are kept for manual recovery.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        Path journalFilePath = getJournalFilePath(filePath);
+        Optional<ReadOnlyAddressBook> snapshot;
+        DataLoadingException snapshotError = null;
+        try {
+            snapshot = snapshotStorage.readWithoutBackups(filePath);
+        } catch (DataLoadingException e) {
+            snapshot = Optional.empty();
+            snapshotError = e;
+        }
+        boolean isSnapshotFromBackup = false;
+        if (snapshot.isEmpty()) {
+            snapshot = snapshotStorage.readNewestBackup(filePath);
+            if (snapshot.isEmpty() && snapshotError != null) {
+                throw snapshotError;
+            }
+            isSnapshotFromBackup = snapshot.isPresent();
+        }
+        if (snapshot.isEmpty() && !Files.exists(journalFilePath)) {
+            return Optional.empty();
+        }
+
+        Map<Name, Person> persons = new LinkedHashMap<>();
+        snapshot.ifPresent(book -> book.getPersonList().forEach(person -> persons.put(person.getName(), person)));
+        int recordCount = isSnapshotFromBackup
+                ? setAsideJournal(journalFilePath)
+                : replayJournal(journalFilePath, persons);
+
+        // A truncated journal must not be appended to, so the next save writes a fresh snapshot instead
+        persistedFilePath = filePath;
+        persistedPersons = recordCount < 0 ? null : persons;
+        journalRecordCount = recordCount;
+        unsyncedRecordCount = 0;
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(new ArrayList<>(persons.values()));
+        return Optional.of(isSnapshotFromBackup ? RecoveredAddressBook.of(addressBook) : addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Appends the changes between the last persisted state and {@code addressBook} to the journal.
+     * Falls back to writing a full snapshot when the persisted state of {@code filePath} is unknown,
+     * when the changes cannot reproduce the order of {@code addressBook}, or when the journal is due for compaction.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        List<Person> persons = addressBook.getPersonList();
+
+        try {
+            if (persistedPersons == null || !filePath.equals(persistedFilePath)) {
+                compact(addressBook, filePath);
+                return;
+            }
+
+            List<JsonAdaptedJournalRecord> records = applyChanges(persistedPersons, persons);
+            if (!isSameOrder(persistedPersons, persons)
+                    || journalRecordCount + records.size() > compactionThreshold) {
+                compact(addressBook, filePath);
+            } else if (!records.isEmpty()) {
+                appendToJournal(getJournalFilePath(filePath), records);
+            }
+        } catch (IOException e) {
+            // The file may now hold anything, so the next save has to start from a fresh snapshot
+            persistedPersons = null;
+            throw e;
+        }
+    }
+
+    /**
+     * Updates {@code persisted} to match {@code persons} and returns the records describing the changes.
+     */
+    private static List<JsonAdaptedJournalRecord> applyChanges(Map<Name, Person> persisted, List<Person> persons) {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        Set<Name> names = new HashSet<>();
+        for (Person person : persons) {
+            names.add(person.getName());
+        }
+
+        Iterator<Name> persistedNames = persisted.keySet().iterator();
+        while (persistedNames.hasNext()) {
+            Name name = persistedNames.next();
+            if (!names.contains(name)) {
+                persistedNames.remove();
+                records.add(JsonAdaptedJournalRecord.delete(name));
+            }
+        }
+
+        for (Person person : persons) {
+            Person persistedPerson = persisted.put(person.getName(), person);
+            if (persistedPerson != person && !person.equals(persistedPerson)) {
+                records.add(JsonAdaptedJournalRecord.put(person));
+            }
+        }
+        return records;
+    }
+
+    private static boolean isSameOrder(Map<Name, Person> persisted, List<Person> persons) {
+        Iterator<Person> persistedPersons = persisted.values().iterator();
+        for (Person person : persons) {
+            if (persistedPersons.next() != person) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void appendToJournal(Path journalFilePath, List<JsonAdaptedJournalRecord> records) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+
+        try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = StandardCharsets.UTF_8.encode(lines.toString());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            journalRecordCount += records.size();
+            unsyncedRecordCount += records.size();
+            if (unsyncedRecordCount >= syncBatchSize) {
+                channel.force(false);
+                unsyncedRecordCount = 0;
+            }
+        }
+        logger.fine("Appended " + records.size() + " records to " + journalFilePath);
+    }
+
+    private void compact(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+
+        Map<Name, Person> persons = new LinkedHashMap<>();
+        addressBook.getPersonList().forEach(person -> persons.put(person.getName(), person));
+        persistedFilePath = filePath;
+        persistedPersons = persons;
+        journalRecordCount = 0;
+        unsyncedRecordCount = 0;
+        logger.fine("Compacted address book journal into " + filePath);
+    }
+
+    /**
+     * Renames the journal at {@code journalFilePath}, if any, so that it is neither replayed nor appended to.
+     * Returns -1 so that the next save writes a fresh snapshot.
+     */
+    private static int setAsideJournal(Path journalFilePath) throws DataLoadingException {
+        if (Files.exists(journalFilePath)) {
+            Path unappliedFilePath = journalFilePath.resolveSibling(
+                    journalFilePath.getFileName() + UNAPPLIED_JOURNAL_FILE_SUFFIX);
+            logger.warning("Snapshot was restored from a backup, so its journal is kept unapplied in "
+                    + unappliedFilePath);
+            try {
+                Files.move(journalFilePath, unappliedFilePath, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException e) {
+                throw new DataLoadingException(e);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Applies every record in {@code journalFilePath} to {@code persons} and returns the number of records applied,
+     * or -1 if the last record was truncated and had to be skipped.
+     */
+    private static int replayJournal(Path journalFilePath, Map<Name, Person> persons) throws DataLoadingException {
+        if (!Files.exists(journalFilePath)) {
+            return 0;
+        }
+
+        int recordCount = 0;
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            while (line != null) {
+                String nextLine = reader.readLine();
+                try {
+                    JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class).applyTo(persons);
+                    recordCount++;
+                } catch (IOException e) {
+                    if (nextLine != null) {
+                        throw e;
+                    }
+                    logger.warning("Ignoring truncated last record in " + journalFilePath);
+                    recordCount = -1;
+                }
+                line = nextLine;
+            }
+        } catch (IOException | IllegalValueException | IllegalArgumentException e) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+        return recordCount;
+    }
+}
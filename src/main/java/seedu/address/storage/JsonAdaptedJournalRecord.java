@@ -0,0 +1,68 @@
+package seedu.address.storage;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single change recorded in an address book journal.
+ * A {@code put} record adds a person, or replaces the person with the same name in place.
+ * A {@code delete} record removes the person with the given name.
+ */
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_INVALID_RECORD = "Journal record is malformed!";
+
+    static final String OPERATION_PUT = "put";
+    static final String OPERATION_DELETE = "delete";
+
+    private final String op;
+    private final String name;
+    private final JsonAdaptedPerson person;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("op") String op, @JsonProperty("name") String name,
+            @JsonProperty("person") JsonAdaptedPerson person) {
+        this.op = op;
+        this.name = name;
+        this.person = person;
+    }
+
+    /**
+     * Returns a record that adds {@code person}, or replaces the existing person with the same name.
+     */
+    public static JsonAdaptedJournalRecord put(Person person) {
+        return new JsonAdaptedJournalRecord(OPERATION_PUT, null, new JsonAdaptedPerson(person));
+    }
+
+    /**
+     * Returns a record that removes the person named {@code name}.
+     */
+    public static JsonAdaptedJournalRecord delete(Name name) {
+        return new JsonAdaptedJournalRecord(OPERATION_DELETE, name.fullName, null);
+    }
+
+    /**
+     * Applies this record to {@code persons}, which maps each person's name to the person in book order.
+     *
+     * @throws IllegalValueException if the record is malformed or holds invalid person data.
+     */
+    public void applyTo(Map<Name, Person> persons) throws IllegalValueException {
+        if (OPERATION_PUT.equals(op) && person != null) {
+            Person modelPerson = person.toModelType();
+            persons.put(modelPerson.getName(), modelPerson);
+        } else if (OPERATION_DELETE.equals(op) && name != null) {
+            persons.remove(new Name(name));
+        } else {
+            throw new IllegalValueException(MESSAGE_INVALID_RECORD);
+        }
+    }
+}
@@ -103,7 +103,7 @@ class JsonAdaptedPerson {
         final Optional<Email> modelEmail = parseOptionalField(email, Email::new);
         final Optional<Address> modelAddress = parseOptionalField(address, Address::new);
         final Optional<Birthday> modelBirthday = parseOptionalField(birthday, Birthday::new);
-        final Optional<Relationship> modelRelationship = parseOptionalField(relationship, Relationship::new);
+        final Optional<Relationship> modelRelationship = parseOptionalField(relationship, Relationship::of);
         final Optional<Nickname> modelNickname = parseOptionalField(nickname, Nickname::new);
         final Optional<Notes> modelNotes = parseOptionalField(notes, Notes::new);
 
@@ -39,10 +39,8 @@ class JsonAdaptedTag {
      * @throws IllegalValueException if there were any data constraints violated in the adapted tag.
      */
     public Tag toModelType() throws IllegalValueException {
-        if (!Tag.isValidTagName(tagName)) {
-            throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS_CHARACTERS);
-        }
-        return new Tag(tagName);
+        // Tags already in use are shared without validating their names again
+        return Tag.of(tagName);
     }
 
 }
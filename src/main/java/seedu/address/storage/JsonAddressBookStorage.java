@@ -1,10 +1,12 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Path;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -13,8 +15,20 @@ import seedu.address.model.ReadOnlyAddressBook;
 public class JsonAddressBookStorage extends JsonStorage<ReadOnlyAddressBook, JsonSerializableAddressBook>
         implements AddressBookStorage {
 
+    public static final int BACKUP_COUNT = 3;
+
+    private final boolean isPrettyPrinted;
+
     public JsonAddressBookStorage(Path filePath) {
-        super(filePath, JsonSerializableAddressBook.class);
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that indents the saved file if {@code isPrettyPrinted} is true.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted) {
+        super(filePath, JsonSerializableAddressBook.class, BACKUP_COUNT);
+        this.isPrettyPrinted = isPrettyPrinted;
     }
 
     @Override
@@ -27,6 +41,28 @@ public class JsonAddressBookStorage extends JsonStorage<ReadOnlyAddressBook, Jso
         return new JsonSerializableAddressBook(data);
     }
 
+    /**
+     * Streams the persons in {@code filePath} straight into the model instead of deserializing the whole file first.
+     */
+    @Override
+    protected Optional<ReadOnlyAddressBook> readModel(Path filePath)
+            throws DataLoadingException, IllegalValueException {
+        return JsonSerializableAddressBook.readModelType(filePath).map(addressBook -> addressBook);
+    }
+
+    @Override
+    protected ReadOnlyAddressBook markRecovered(ReadOnlyAddressBook data) {
+        return RecoveredAddressBook.of(data);
+    }
+
+    /**
+     * Streams the persons in {@code data} straight to {@code outputStream} instead of serializing the whole book first.
+     */
+    @Override
+    protected void writeModel(ReadOnlyAddressBook data, OutputStream outputStream) throws IOException {
+        JsonSerializableAddressBook.writeModelType(data, outputStream, isPrettyPrinted);
+    }
+
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
         return read();
@@ -1,16 +1,25 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 
 /**
@@ -21,6 +30,8 @@ class JsonSerializableAddressBook implements JsonSerializable<ReadOnlyAddressBoo
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
+    private static final String PERSONS_FIELD = "persons";
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
@@ -57,4 +68,50 @@ class JsonSerializableAddressBook implements JsonSerializable<ReadOnlyAddressBoo
         return addressBook;
     }
 
+    /**
+     * Reads the address book stored at {@code filePath} into the model's {@code AddressBook} object.
+     * Persons are streamed from the file and converted one at a time, so neither the file contents nor the
+     * list of {@code JsonAdaptedPerson} is kept in memory.
+     *
+     * @return the address book, or {@code Optional.empty()} if the file is not found.
+     * @throws DataLoadingException if the file could not be read or is not in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static Optional<AddressBook> readModelType(Path filePath)
+            throws DataLoadingException, IllegalValueException {
+        List<Person> persons = new ArrayList<>();
+        Set<Name> names = new HashSet<>();
+
+        boolean isFound = JsonUtil.readJsonArrayField(filePath, PERSONS_FIELD, JsonAdaptedPerson.class,
+                jsonAdaptedPerson -> {
+                    Person person = jsonAdaptedPerson.toModelType();
+                    if (!names.add(person.getName())) {
+                        throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+                    }
+                    persons.add(person);
+                });
+        if (!isFound) {
+            return Optional.empty();
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Writes {@code source} to {@code outputStream} in the same format as this class, converting each person into a
+     * {@code JsonAdaptedPerson} only as it is written.
+     *
+     * @param isPrettyPrinted whether the output should be indented for human readers.
+     * @throws IOException if there was any problem writing to the stream.
+     */
+    public static void writeModelType(ReadOnlyAddressBook source, OutputStream outputStream, boolean isPrettyPrinted)
+            throws IOException {
+        Iterable<JsonAdaptedPerson> jsonAdaptedPersons = () -> source.getPersonList().stream()
+                .map(JsonAdaptedPerson::new)
+                .iterator();
+        JsonUtil.writeJsonArray(outputStream, PERSONS_FIELD, jsonAdaptedPersons, isPrettyPrinted);
+    }
+
 }
@@ -3,6 +3,8 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -24,6 +26,7 @@ public abstract class JsonStorage<T, S extends JsonSerializable<T>> {
 
     protected Path filePath;
     private final Class<S> serializableClass;
+    private final int backupCount;
 
     /**
      * Constructs a JsonStorage with the specified file path and serializable class.
@@ -32,8 +35,20 @@ public abstract class JsonStorage<T, S extends JsonSerializable<T>> {
      * @param serializableClass The class of the serializable wrapper for the model type
      */
     public JsonStorage(Path filePath, Class<S> serializableClass) {
+        this(filePath, serializableClass, 0);
+    }
+
+    /**
+     * Constructs a JsonStorage that keeps up to {@code backupCount} previous versions of each file it saves.
+     *
+     * @param filePath The path where the serialized data will be stored
+     * @param serializableClass The class of the serializable wrapper for the model type
+     * @param backupCount The number of rotated backups to keep
+     */
+    public JsonStorage(Path filePath, Class<S> serializableClass, int backupCount) {
         this.filePath = filePath;
         this.serializableClass = serializableClass;
+        this.backupCount = backupCount;
     }
 
     public Path getFilePath() {
@@ -46,32 +61,97 @@ public abstract class JsonStorage<T, S extends JsonSerializable<T>> {
 
     /**
      * Reads data from the specified file path.
+     * If the file is missing or cannot be loaded, the newest backup that can be loaded is returned instead.
      *
      * @param filePath location of the data. Cannot be null.
-     * @throws DataLoadingException if the file format is not as expected.
+     * @throws DataLoadingException if the file format is not as expected and no backup could be loaded.
      */
     public Optional<T> read(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<S> jsonData = JsonUtil.readJsonFile(filePath, serializableClass);
-        if (jsonData.isEmpty()) {
-            return Optional.empty();
+        try {
+            Optional<T> data = readWithoutBackups(filePath);
+            return data.isPresent() ? data : readNewestBackup(filePath);
+        } catch (DataLoadingException e) {
+            Optional<T> backup = readNewestBackup(filePath);
+            if (backup.isEmpty()) {
+                throw e;
+            }
+            return backup;
         }
+    }
 
+    /**
+     * Reads data from the specified file path only, without falling back to its backups.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if the file format is not as expected.
+     */
+    public Optional<T> readWithoutBackups(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
         try {
-            return Optional.of(jsonData.get().toModelType());
+            return readModel(filePath);
         } catch (IllegalValueException | IllegalArgumentException e) {
             logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
             throw new DataLoadingException(e);
         }
     }
 
+    /**
+     * Reads the newest backup of the specified file path that can be loaded.
+     * Returns an empty {@code Optional} if there is none.
+     *
+     * @param filePath location of the data whose backups are read. Cannot be null.
+     */
+    public Optional<T> readNewestBackup(Path filePath) {
+        requireNonNull(filePath);
+        for (int index = 1; index <= backupCount; index++) {
+            Path backupFilePath = FileUtil.getBackupFilePath(filePath, index);
+            try {
+                Optional<T> data = readWithoutBackups(backupFilePath);
+                if (data.isPresent()) {
+                    logger.warning("Loaded data from backup " + backupFilePath);
+                    return data.map(this::markRecovered);
+                }
+            } catch (DataLoadingException e) {
+                logger.warning("Skipping unreadable backup " + backupFilePath);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns {@code data} that was read from a backup because the file it was read for is missing or corrupted.
+     * Subclasses may override this to mark such data, as that file does not hold it yet.
+     */
+    protected T markRecovered(T data) {
+        return data;
+    }
+
+    /**
+     * Reads the file at {@code filePath} and converts it into the model type.
+     * Subclasses may override this to convert the data without building the whole serializable wrapper first.
+     *
+     * @throws DataLoadingException if the file format is not as expected.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    protected Optional<T> readModel(Path filePath) throws DataLoadingException, IllegalValueException {
+        Optional<S> jsonData = JsonUtil.readJsonFile(filePath, serializableClass);
+        if (jsonData.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(jsonData.get().toModelType());
+    }
+
     public void save(T data) throws IOException {
         save(data, filePath);
     }
 
     /**
      * Saves the given data to the specified file path.
+     * The file is replaced atomically, so a failed save leaves the previous data intact, and the previous version
+     * becomes the newest backup.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -79,8 +159,15 @@ public abstract class JsonStorage<T, S extends JsonSerializable<T>> {
         requireNonNull(data);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(createSerializable(data), filePath);
+        FileUtil.writeToFileAtomically(filePath, backupCount, outputStream -> writeModel(data, outputStream));
+    }
+
+    /**
+     * Writes {@code data} to {@code outputStream}, which is buffered and leads to a temporary file.
+     * Subclasses may override this to write the data without building the whole serializable wrapper first.
+     */
+    protected void writeModel(T data, OutputStream outputStream) throws IOException {
+        outputStream.write(JsonUtil.toJsonString(createSerializable(data)).getBytes(StandardCharsets.UTF_8));
     }
 
     /**
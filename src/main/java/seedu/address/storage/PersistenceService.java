@@ -0,0 +1,174 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.CommandHistory;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyCommandHistory;
+import seedu.address.model.person.Person;
+
+/**
+ * Persists address book and command history snapshots to {@code Storage} on a background thread.
+ * Snapshots submitted while a write is still pending replace the pending ones, so a burst of commands
+ * results in a single write of the latest state.
+ */
+public class PersistenceService {
+    private static final Logger logger = LogsCenter.getLogger(PersistenceService.class);
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final Storage storage;
+    private final ExecutorService executor;
+    private final Object writeLock = new Object();
+    private volatile Consumer<IOException> errorHandler = e -> {};
+    private ReadOnlyAddressBook lastAddressBookSnapshot;
+
+    // Guarded by this
+    private ReadOnlyAddressBook pendingAddressBook;
+    private ReadOnlyCommandHistory pendingCommandHistory;
+    private boolean isWriteScheduled = false;
+
+    /**
+     * Creates a {@code PersistenceService} that writes to {@code storage} on its own daemon thread.
+     */
+    public PersistenceService(Storage storage) {
+        this(storage, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "persistence-writer");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates a {@code PersistenceService} that writes to {@code storage} using {@code executor}.
+     */
+    public PersistenceService(Storage storage, ExecutorService executor) {
+        requireNonNull(storage);
+        requireNonNull(executor);
+        this.storage = storage;
+        this.executor = executor;
+    }
+
+    /**
+     * Sets the handler that is called, on the writing thread, whenever a save fails.
+     */
+    public void setErrorHandler(Consumer<IOException> errorHandler) {
+        requireNonNull(errorHandler);
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * Snapshots {@code addressBook} and {@code commandHistory} and schedules them to be written.
+     * Must be called from the thread that modifies the model, since the snapshot is taken immediately.
+     * An unchanged address book reuses the previous snapshot instead of being copied again.
+     */
+    public void submit(ReadOnlyAddressBook addressBook, ReadOnlyCommandHistory commandHistory) {
+        requireNonNull(addressBook);
+        requireNonNull(commandHistory);
+        if (lastAddressBookSnapshot == null || lastAddressBookSnapshot.getVersion() != addressBook.getVersion()) {
+            lastAddressBookSnapshot = snapshotOf(addressBook);
+        }
+        ReadOnlyAddressBook addressBookSnapshot = lastAddressBookSnapshot;
+        ReadOnlyCommandHistory commandHistorySnapshot = new CommandHistory(commandHistory);
+
+        synchronized (this) {
+            pendingAddressBook = addressBookSnapshot;
+            pendingCommandHistory = commandHistorySnapshot;
+            if (isWriteScheduled) {
+                logger.fine("Coalesced snapshot into pending write.");
+                return;
+            }
+            isWriteScheduled = true;
+        }
+        executor.execute(this::writePending);
+    }
+
+    /**
+     * Writes any pending snapshots on the calling thread, waiting for an in-progress write to finish first.
+     */
+    public void flush() {
+        writePending();
+    }
+
+    /**
+     * Flushes pending snapshots and stops the background thread. No further snapshots should be submitted.
+     */
+    public void shutdown() {
+        flush();
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Persistence writer did not terminate in time.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void writePending() {
+        synchronized (writeLock) {
+            ReadOnlyAddressBook addressBook;
+            ReadOnlyCommandHistory commandHistory;
+            synchronized (this) {
+                addressBook = pendingAddressBook;
+                commandHistory = pendingCommandHistory;
+                pendingAddressBook = null;
+                pendingCommandHistory = null;
+                isWriteScheduled = false;
+            }
+            if (addressBook == null) {
+                return;
+            }
+
+            try {
+                storage.saveAddressBook(addressBook);
+                storage.saveCommandHistory(commandHistory);
+                logger.info("Data saved successfully.");
+            } catch (IOException e) {
+                logger.severe("Error saving data: " + e.getMessage());
+                errorHandler.accept(e);
+            }
+        }
+    }
+
+    /**
+     * Returns a read-only copy of the persons in {@code addressBook}.
+     * Persons are immutable, so copying the list is enough to detach the snapshot from later edits.
+     */
+    private static ReadOnlyAddressBook snapshotOf(ReadOnlyAddressBook addressBook) {
+        return new AddressBookSnapshot(addressBook.getPersonList(), addressBook.getVersion());
+    }
+
+    /**
+     * A fixed copy of an address book's persons and version.
+     */
+    private static class AddressBookSnapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+        private final long version;
+
+        AddressBookSnapshot(List<Person> persons, long version) {
+            this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(persons));
+            this.version = version;
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * An address book that a storage read from a backup or an older file because the file it was asked to read is
+ * missing or corrupted. That file does not hold the address book yet, so it must be written on the next save even
+ * if the address book has not changed.
+ */
+class RecoveredAddressBook implements ReadOnlyAddressBook {
+
+    private final ReadOnlyAddressBook addressBook;
+
+    private RecoveredAddressBook(ReadOnlyAddressBook addressBook) {
+        this.addressBook = requireNonNull(addressBook);
+    }
+
+    /**
+     * Marks {@code addressBook} as recovered from a file other than the one that was read.
+     */
+    static ReadOnlyAddressBook of(ReadOnlyAddressBook addressBook) {
+        return isRecovered(addressBook) ? addressBook : new RecoveredAddressBook(addressBook);
+    }
+
+    /**
+     * Returns true if {@code addressBook} was recovered from a file other than the one that was read.
+     */
+    static boolean isRecovered(ReadOnlyAddressBook addressBook) {
+        return addressBook instanceof RecoveredAddressBook;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return addressBook.getPersonList();
+    }
+
+    @Override
+    public long getVersion() {
+        return addressBook.getVersion();
+    }
+
+    @Override
+    public String toString() {
+        return addressBook.toString();
+    }
+}
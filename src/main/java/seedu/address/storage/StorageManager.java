@@ -14,6 +14,7 @@ import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * Saving an address book or command history whose version has already been written to the same file is skipped.
  */
 public class StorageManager implements Storage {
 
@@ -21,6 +22,8 @@ public class StorageManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
     private CommandHistoryStorage commandHistoryStorage;
+    private final PersistedVersion persistedAddressBook = new PersistedVersion();
+    private final PersistedVersion persistedCommandHistory = new PersistedVersion();
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
@@ -32,6 +35,23 @@ public class StorageManager implements Storage {
         this.commandHistoryStorage = commandHistoryStorage;
     }
 
+    /**
+     * Creates the {@code AddressBookStorage} backend selected in {@code userPrefs}.
+     */
+    public static AddressBookStorage createAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getAddressBookFilePath();
+        boolean isPrettyPrinted = userPrefs.isPrettyPrintAddressBookFile();
+        switch (userPrefs.getAddressBookStorageType()) {
+        case JOURNAL:
+            return new JournalAddressBookStorage(filePath, isPrettyPrinted);
+        case BINARY:
+            return new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryFilePath(filePath), filePath);
+        case JSON:
+        default:
+            return new JsonAddressBookStorage(filePath, isPrettyPrinted);
+        }
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -64,18 +84,25 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyCommandHistory> readCommandHistory(Path filePath) throws DataLoadingException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return commandHistoryStorage.readCommandHistory(filePath);
+        Optional<ReadOnlyCommandHistory> commandHistory = commandHistoryStorage.readCommandHistory(filePath);
+        commandHistory.ifPresent(history -> persistedCommandHistory.record(history.getVersion(), filePath));
+        return commandHistory;
     }
 
     @Override
     public void saveCommandHistory(ReadOnlyCommandHistory commandHistory) throws IOException {
-        commandHistoryStorage.saveCommandHistory(commandHistory);
+        saveCommandHistory(commandHistory, commandHistoryStorage.getCommandHistoryFilePath());
     }
 
     @Override
     public void saveCommandHistory(ReadOnlyCommandHistory commandHistory, Path filePath) throws IOException {
+        if (persistedCommandHistory.isSaved(commandHistory.getVersion(), filePath)) {
+            logger.fine("Command history unchanged, skipping write to: " + filePath);
+            return;
+        }
         logger.fine("Attempting to write to data file: " + filePath);
         commandHistoryStorage.saveCommandHistory(commandHistory, filePath);
+        persistedCommandHistory.record(commandHistory.getVersion(), filePath);
     }
 
     // ================ AddressBook methods ==============================
@@ -93,7 +120,11 @@ public class StorageManager implements Storage {
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         logger.fine("Attempting to read data from file: " + filePath);
-        return addressBookStorage.readAddressBook(filePath);
+        Optional<ReadOnlyAddressBook> addressBook = addressBookStorage.readAddressBook(filePath);
+        // An address book recovered from elsewhere is not in the file yet, so the next save must still write it
+        addressBook.filter(book -> !RecoveredAddressBook.isRecovered(book))
+                .ifPresent(book -> persistedAddressBook.record(book.getVersion(), filePath));
+        return addressBook;
     }
 
     @Override
@@ -103,8 +134,30 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        if (persistedAddressBook.isSaved(addressBook.getVersion(), filePath)) {
+            logger.fine("Address book unchanged, skipping write to: " + filePath);
+            return;
+        }
         logger.fine("Attempting to write to data file: " + filePath);
         addressBookStorage.saveAddressBook(addressBook, filePath);
+        persistedAddressBook.record(addressBook.getVersion(), filePath);
+    }
+
+    /**
+     * Remembers the version of the data last read from or written to a file.
+     */
+    private static class PersistedVersion {
+        private long version;
+        private Path filePath;
+
+        synchronized boolean isSaved(long version, Path filePath) {
+            return this.version == version && filePath.equals(this.filePath);
+        }
+
+        synchronized void record(long version, Path filePath) {
+            this.version = version;
+            this.filePath = filePath;
+        }
     }
 
 }
@@ -0,0 +1,120 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import javafx.scene.image.Image;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.ImagePath;
+
+/**
+ * A cache of decoded profile images shared by all person cards, keyed by the resolved URL of each image.
+ * <p>
+ * Images are decoded on a background thread at the size they are displayed at, rather than at their full size.
+ * Remote images are downloaded and decoded on a few threads of their own, so that a slow server cannot hold up
+ * the local images queued behind it.
+ * Once the cache holds {@code MAX_ENTRIES} images, the least recently used one is dropped. Persons without a picture
+ * of their own, or whose picture cannot be read, all share one default image that is never dropped.
+ */
+public class ImageCache {
+
+    /** The width and height that profile images are displayed at on a {@link PersonCard}. */
+    public static final double THUMBNAIL_SIZE = 100;
+
+    private static final int MAX_ENTRIES = 256;
+    private static final int REMOTE_DECODER_THREADS = 4;
+    private static final Logger logger = LogsCenter.getLogger(ImageCache.class);
+    private static final ImageCache instance = new ImageCache(MAX_ENTRIES);
+
+    private final ExecutorService decoder = createDecoder(1, "profile-image-decoder");
+    private final ExecutorService remoteDecoder = createDecoder(REMOTE_DECODER_THREADS, "remote-profile-image-decoder");
+    private final Map<String, CompletableFuture<Image>> images;
+    private final String defaultImageUrl = ImagePath.getDefault().getPath();
+    private CompletableFuture<Image> defaultImage;
+
+    ImageCache(int maxEntries) {
+        // Access order makes the eldest entry the least recently used one
+        images = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompletableFuture<Image>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public static ImageCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Returns the image at {@code rawPath}, which is a URL or a file path as stored in {@link ImagePath}.
+     * The returned future is already complete if the image was decoded before, and otherwise completes on the
+     * decoding thread, so callers must move to the JavaFX application thread before showing it.
+     */
+    public CompletableFuture<Image> getImage(String rawPath) {
+        requireNonNull(rawPath);
+        String url = resolveUrl(rawPath, defaultImageUrl);
+        if (url.equals(defaultImageUrl)) {
+            return getDefaultImage();
+        }
+        synchronized (images) {
+            return images.computeIfAbsent(url, this::decode);
+        }
+    }
+
+    /**
+     * Returns the image shown for persons without a picture of their own.
+     */
+    public synchronized CompletableFuture<Image> getDefaultImage() {
+        if (defaultImage == null) {
+            defaultImage = CompletableFuture.supplyAsync(() -> createThumbnail(defaultImageUrl), decoder);
+        }
+        return defaultImage;
+    }
+
+    /**
+     * Returns the URL to load the image at {@code rawPath} from.
+     * Paths to files that do not exist resolve to {@code defaultImageUrl}.
+     */
+    static String resolveUrl(String rawPath, String defaultImageUrl) {
+        if (rawPath.startsWith("jar:") || rawPath.startsWith("file:") || rawPath.startsWith("http")) {
+            return rawPath;
+        }
+        File file = new File(rawPath);
+        return file.exists() ? file.toURI().toString() : defaultImageUrl;
+    }
+
+    private CompletableFuture<Image> decode(String url) {
+        ExecutorService executor = url.startsWith("http") ? remoteDecoder : decoder;
+        return CompletableFuture.supplyAsync(() -> createThumbnail(url), executor)
+                .handle((image, error) -> {
+                    if (error != null || image.isError()) {
+                        logger.warning("Failed to load image " + url + ", showing the default image instead");
+                        return getDefaultImage();
+                    }
+                    return CompletableFuture.completedFuture(image);
+                })
+                .thenCompose(Function.identity());
+    }
+
+    private static ExecutorService createDecoder(int threadCount, String threadName) {
+        return Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static Image createThumbnail(String url) {
+        // Decoded synchronously, as this already runs on the decoding thread
+        return new Image(url, THUMBNAIL_SIZE, THUMBNAIL_SIZE, true, true);
+    }
+}
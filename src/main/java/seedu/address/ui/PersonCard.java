@@ -1,19 +1,31 @@
 package seedu.address.ui;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.File;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import javafx.application.Platform;
-import javafx.fxml.FXML;
+import javafx.collections.ObservableList;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
+import javafx.scene.layout.ColumnConstraints;
 import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
+import javafx.scene.layout.VBox;
 import javafx.stage.FileChooser;
 import seedu.address.model.person.Birthday;
 import seedu.address.model.person.ImagePath;
@@ -25,50 +37,59 @@ import seedu.address.model.person.Relationship;
  */
 public class PersonCard extends UiPart<Region> {
 
-    private static final String FXML = "PersonListCard.fxml";
-
-    /**
-     * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
-     * As a consequence, UI elements' variable names cannot be set to such keywords
-     * or an exception will be thrown by JavaFX during runtime.
-     *
-     * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
-     */
-
-    public final Person person;
     private final Consumer<String> commandExecutor;
-    @FXML
+    private Person person;
+    private int displayedIndex;
+    private String displayedImagePath;
+
     private HBox cardPane;
-    @FXML
     private Label name;
-    @FXML
     private Label id;
-    @FXML
     private Label phone;
-    @FXML
     private Label address;
-    @FXML
     private Label email;
-    @FXML
     private Label birthday;
-    @FXML
     private Label relationship;
-    @FXML
     private Label nickname;
-    @FXML
     private Label notes;
-    @FXML
     private FlowPane tags;
-    @FXML
     private ImageView profileImage;
 
     /**
-     * Creates a {@code PersonCode} with the given {@code Person} and index to display.
+     * Creates a {@code PersonCard} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex, Consumer<String> commandExecutor) {
-        super(FXML);
-        this.person = person;
+        this(commandExecutor);
+        setPerson(person, displayedIndex);
+    }
+
+    /**
+     * Creates a {@code PersonCard} that displays no person until {@link #setPerson(Person, int)} is called.
+     * The layout is built only here, so a card can be rebound to other persons without building it again.
+     */
+    public PersonCard(Consumer<String> commandExecutor) {
+        super(new HBox());
         this.commandExecutor = commandExecutor;
+        buildLayout((HBox) getRoot());
+        setUpImageClick();
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Displays {@code person} with {@code displayedIndex} on this card, replacing the person shown before.
+     * The existing labels are reused, and the image is only reloaded if the image path has changed.
+     */
+    public void setPerson(Person person, int displayedIndex) {
+        requireNonNull(person);
+        if (person == this.person && displayedIndex == this.displayedIndex) {
+            return;
+        }
+        this.person = person;
+        this.displayedIndex = displayedIndex;
+
         id.setText(String.valueOf(displayedIndex));
         name.setText(person.getName().fullName);
         setTextOrHide(nickname, person.getNickname(), nick -> " (" + nick + ")");
@@ -82,51 +103,138 @@ public class PersonCard extends UiPart<Region> {
 
         setTextOrHide(birthday, person.getBirthday(), b -> ((Birthday) b).getBirthdayStringFormatted());
         setTextOrHide(notes, person.getNotes(), Object::toString);
+        setTags(person);
+        setImage(person);
+    }
+
+    /**
+     * Shows the tags of {@code person} sorted by name, reusing the tag labels already on the card.
+     */
+    private void setTags(Person person) {
+        List<String> tagNames = person.getTags().stream()
+                .map(tag -> tag.tagName)
+                .sorted(Comparator.naturalOrder())
+                .collect(Collectors.toList());
+        ObservableList<Node> tagLabels = tags.getChildren();
+        if (tagLabels.size() > tagNames.size()) {
+            tagLabels.remove(tagNames.size(), tagLabels.size());
+        }
+        for (int i = 0; i < tagNames.size(); i++) {
+            if (i < tagLabels.size()) {
+                ((Label) tagLabels.get(i)).setText(tagNames.get(i));
+            } else {
+                tagLabels.add(new Label(tagNames.get(i)));
+            }
+        }
+    }
+
+    private void setImage(Person person) {
+        showImage(person.getImagePath().getPath());
+    }
 
-        person.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
-
-        Platform.runLater(() -> {
-            try {
-                String rawPath = person.getImagePath().getPath();
-                Image image;
-
-                if (rawPath.startsWith("jar:") || rawPath.startsWith("file:") || rawPath.startsWith("http")) {
-                    image = new Image(rawPath, true);
-                } else {
-                    File file = new File(rawPath);
-                    if (file.exists()) {
-                        image = new Image(file.toURI().toString(), true);
-                    } else {
-                        // Fallback to classpath resource
-                        image = new Image(ImagePath.class.getResourceAsStream("/images/defaultUserPicture.png"));
-                    }
+    /**
+     * Shows the image at {@code rawPath} through the {@link ImageCache}, unless it is already shown.
+     */
+    private void showImage(String rawPath) {
+        if (rawPath.equals(displayedImagePath)) {
+            return;
+        }
+        displayedImagePath = rawPath;
+
+        CompletableFuture<Image> image = ImageCache.getInstance().getImage(rawPath);
+        // Images decoded before are shown right away, so scrolling back to a card does not flicker
+        profileImage.setImage(image.getNow(null));
+        if (!image.isDone()) {
+            image.thenAccept(loadedImage -> Platform.runLater(() -> {
+                // The card may have been rebound to another person before the image was decoded
+                if (rawPath.equals(displayedImagePath)) {
+                    profileImage.setImage(loadedImage);
                 }
+            }));
+        }
+    }
 
-                profileImage.setImage(image);
-            } catch (Exception e) {
-                System.out.println("Failed to load image for " + person.getName().fullName + ": " + e.getMessage());
-            }
-        });
+    /**
+     * Shows the mapped value of {@code optionalValue} on {@code label}, or hides the label if there is none.
+     */
+    private void setTextOrHide(Label label, Optional<?> optionalValue, Function<Object, String> mapper) {
+        String text = optionalValue.map(mapper).orElse("");
+        boolean hasText = !text.isEmpty();
+        label.setText(text);
+        label.setVisible(hasText);
+        label.setManaged(hasText);
+    }
+
+    /**
+     * Builds the layout of the card into {@code root}.
+     * The layout is built in code rather than loaded from an FXML file, as cards are created for every visible list
+     * cell and parsing the file each time dominated their creation cost.
+     */
+    private void buildLayout(HBox root) {
+        cardPane = root;
+        cardPane.setId("cardPane");
+
+        id = createLabel("id", "index_circle", false);
+        // Ensures that the label text is never truncated
+        id.setMinWidth(Region.USE_PREF_SIZE);
+        VBox indexBox = new VBox(id);
+        indexBox.setAlignment(Pos.TOP_CENTER);
+
+        name = createLabel("name", "cell_big_label", true);
+        nickname = createLabel("nickname", "cell_nickname_label", true);
+        HBox nameBox = new HBox(5, new VBox(name, nickname));
+        nameBox.setAlignment(Pos.CENTER_LEFT);
+        relationship = createLabel("relationship", "cell_relationship_label", false);
+        tags = new FlowPane();
+        tags.setId("tags");
+        phone = createLabel("phone", "cell_small_label", false);
+        VBox.setMargin(phone, new Insets(2, 0, 0, 0));
+        address = createLabel("address", "cell_small_label", true);
+        email = createLabel("email", "cell_small_label", true);
+        birthday = createLabel("birthday", "cell_small_label", true);
+        notes = createLabel("notes", "cell_small_label", true);
+
+        VBox detailsBox = new VBox(nameBox, relationship, tags, phone, address, email, birthday, notes);
+        detailsBox.setAlignment(Pos.CENTER_LEFT);
+        detailsBox.setMinHeight(105);
+        detailsBox.setPadding(new Insets(5, 5, 5, 8));
+        GridPane.setColumnIndex(detailsBox, 0);
+        ColumnConstraints detailsColumn = new ColumnConstraints();
+        detailsColumn.setHgrow(Priority.SOMETIMES);
+        detailsColumn.setMinWidth(10);
+        detailsColumn.setPrefWidth(150);
+        GridPane detailsPane = new GridPane();
+        detailsPane.getColumnConstraints().add(detailsColumn);
+        detailsPane.getChildren().add(detailsBox);
+        HBox.setHgrow(detailsPane, Priority.ALWAYS);
+
+        profileImage = new ImageView();
+        profileImage.setId("profileImage");
+        profileImage.setFitHeight(ImageCache.THUMBNAIL_SIZE);
+        profileImage.setFitWidth(ImageCache.THUMBNAIL_SIZE);
+        profileImage.setPreserveRatio(true);
+        VBox imageBox = new VBox(5, profileImage);
+        imageBox.setAlignment(Pos.CENTER_RIGHT);
+        imageBox.setPadding(new Insets(10));
+
+        cardPane.getChildren().setAll(indexBox, detailsPane, imageBox);
+    }
+
+    private static Label createLabel(String id, String styleClass, boolean wrapText) {
+        Label label = new Label();
+        label.setId(id);
+        label.getStyleClass().add(styleClass);
+        label.setWrapText(wrapText);
+        return label;
+    }
+
+    private void setUpImageClick() {
         profileImage.setOnMouseClicked(event -> {
             event.consume();
             handleImageClick();
         });
         profileImage.setCursor(javafx.scene.Cursor.HAND);
     }
-    /**
-     * Creates a {@code PersonCode} with the given {@code Person} and index to display.
-     */
-    private void setTextOrHide(Label label, Optional<?> optionalValue, Function<Object, String> mapper) {
-        String text = optionalValue.map(mapper).orElse("");
-        if (text.isEmpty()) {
-            label.setVisible(false);
-            label.setManaged(false);
-        } else {
-            label.setText(text);
-        }
-    }
 
     private void handleImageClick() {
         FileChooser fileChooser = new FileChooser();
@@ -147,8 +255,8 @@ public class PersonCard extends UiPart<Region> {
             return;
         }
 
-        // Setting image immediately for better UI responsiveness
-        profileImage.setImage(new Image(selectedFile.toURI().toString()));
+        // Shown before the edit is applied for better UI responsiveness; decoding still happens off the FX thread
+        showImage(path);
 
         int zeroBasedIndex = Integer.parseInt(id.getText()) - 1;
         String command = String.format("edit %d img/%s", zeroBasedIndex + 1, path);
@@ -34,8 +34,12 @@ public class PersonListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * Each cell loads one card and reuses it for every person it shows.
      */
     class PersonListViewCell extends ListCell<Person> {
+        // Created when the cell first shows a person, then rebound as the cell is reused for other persons
+        private PersonCard personCard;
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -44,7 +48,11 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1, commandExecutor).getRoot());
+                if (personCard == null) {
+                    personCard = new PersonCard(commandExecutor);
+                }
+                personCard.setPerson(person, getIndex() + 1);
+                setGraphic(personCard.getRoot());
             }
         }
     }
@@ -17,14 +17,14 @@ public abstract class UiPart<T> {
     /** Resource folder where FXML files are stored. */
     public static final String FXML_FILE_FOLDER = "/view/";
 
-    private final FXMLLoader fxmlLoader = new FXMLLoader();
+    private final T root;
 
     /**
      * Constructs a UiPart with the specified FXML file URL.
      * The FXML file must not specify the {@code fx:controller} attribute.
      */
     public UiPart(URL fxmlFileUrl) {
-        loadFxmlFile(fxmlFileUrl, null);
+        this.root = loadFxmlFile(fxmlFileUrl, null);
     }
 
     /**
@@ -40,7 +40,7 @@ public abstract class UiPart<T> {
      * The FXML file must not specify the {@code fx:controller} attribute.
      */
     public UiPart(URL fxmlFileUrl, T root) {
-        loadFxmlFile(fxmlFileUrl, root);
+        this.root = loadFxmlFile(fxmlFileUrl, root);
     }
 
     /**
@@ -51,20 +51,30 @@ public abstract class UiPart<T> {
         this(getFxmlFileUrl(fxmlFileName), root);
     }
 
+    /**
+     * Constructs a UiPart whose scene graph is built in code, with {@code root} as its root.
+     * No FXML file is loaded, so {@code @FXML} fields are not injected and must be assigned by the subclass.
+     */
+    public UiPart(T root) {
+        this.root = requireNonNull(root);
+    }
+
     /**
      * Returns the root object of the scene graph of this UiPart.
      */
     public T getRoot() {
-        return fxmlLoader.getRoot();
+        return root;
     }
 
     /**
      * Loads the object hierarchy from a FXML document.
      * @param location Location of the FXML document.
      * @param root Specifies the root of the object hierarchy.
+     * @return The root of the loaded object hierarchy.
      */
-    private void loadFxmlFile(URL location, T root) {
+    private T loadFxmlFile(URL location, T root) {
         requireNonNull(location);
+        FXMLLoader fxmlLoader = new FXMLLoader();
         fxmlLoader.setLocation(location);
         fxmlLoader.setController(this);
         fxmlLoader.setRoot(root);
@@ -73,6 +83,7 @@ public abstract class UiPart<T> {
         } catch (IOException e) {
             throw new AssertionError(e);
         }
+        return fxmlLoader.getRoot();
     }
 
     /**
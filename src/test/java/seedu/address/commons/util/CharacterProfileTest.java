@@ -0,0 +1,53 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class CharacterProfileTest {
+
+    @Test
+    public void of_nullString_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> CharacterProfile.of(null));
+    }
+
+    @Test
+    public void getSimilarityUpperBound_emptyString_returnsZero() {
+        assertEquals(0.0, CharacterProfile.of("").getSimilarityUpperBound(CharacterProfile.of("abc")));
+        assertEquals(0.0, CharacterProfile.of("abc").getSimilarityUpperBound(CharacterProfile.of("")));
+    }
+
+    @Test
+    public void getSimilarityUpperBound_sameString_returnsSimilarity() {
+        assertEquals(StringUtil.calculateSimilarity("banana", "banana"),
+                CharacterProfile.of("banana").getSimilarityUpperBound(CharacterProfile.of("banana")));
+    }
+
+    @Test
+    public void getSimilarityUpperBound_knownPairs_neverBelowSimilarity() {
+        String[][] pairs = {
+            StringUtilTest.getSimilarStringsX(), StringUtilTest.getSimilarStringsY(),
+            StringUtilTest.getDifferentStringsX(), StringUtilTest.getDifferentStringsY(),
+            {"jon", "kitten", "flaw", "abc", "aab", "a", "listen", "meier"},
+            {"jan", "sitting", "lawn", "cba", "abb", "aaaa", "silent", "meyer"}
+        };
+        for (int p = 0; p < pairs.length; p += 2) {
+            for (int i = 0; i < pairs[p].length; i++) {
+                String a = pairs[p][i];
+                String b = pairs[p + 1][i];
+                double bound = CharacterProfile.of(a).getSimilarityUpperBound(CharacterProfile.of(b));
+                double similarity = StringUtil.calculateSimilarity(a, b);
+                assertTrue(bound >= similarity, a + " / " + b + ": bound " + bound + " < " + similarity);
+                assertEquals(bound, CharacterProfile.of(b).getSimilarityUpperBound(CharacterProfile.of(a)));
+            }
+        }
+    }
+
+    @Test
+    public void getSimilarityUpperBound_noSharedCharacters_excludesPair() {
+        // Every character needs an edit and nothing overlaps, so only the length ratio contributes
+        assertEquals(0.1, CharacterProfile.of("abcd").getSimilarityUpperBound(CharacterProfile.of("wxyz")), 1e-9);
+    }
+}
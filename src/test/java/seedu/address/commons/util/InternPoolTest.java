@@ -0,0 +1,47 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class InternPoolTest {
+
+    @Test
+    public void intern_sameKey_returnsPooledValue() {
+        InternPool<String> pool = new InternPool<>(10);
+        String first = pool.intern("friends", String::new);
+        assertSame(first, pool.intern("friends", key -> {
+            throw new AssertionError("A pooled value should not be created again");
+        }));
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    public void intern_factoryThrows_nothingPooled() {
+        InternPool<String> pool = new InternPool<>(10);
+        assertThrows(IllegalArgumentException.class, () -> pool.intern("invalid", key -> {
+            throw new IllegalArgumentException();
+        }));
+        assertEquals(0, pool.size());
+    }
+
+    @Test
+    public void intern_poolFull_returnsUnpooledValue() {
+        InternPool<String> pool = new InternPool<>(1);
+        pool.intern("friends", String::new);
+        String first = pool.intern("family", String::new);
+        String second = pool.intern("family", String::new);
+
+        assertEquals(first, second);
+        assertNotSame(first, second);
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    public void intern_nullKey_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new InternPool<String>(1).intern(null, String::new));
+    }
+}
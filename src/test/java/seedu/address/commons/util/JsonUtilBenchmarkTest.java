@@ -0,0 +1,114 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.testutil.Benchmark;
+
+/**
+ * Compares {@link JsonUtil#readJsonFile} with {@link JsonUtil#readJsonFileMapped} on a large generated file.
+ * Run with {@code gradlew benchmark}; the number of records can be set with {@code -Dbenchmark.records=N}.
+ */
+@Tag("benchmark")
+public class JsonUtilBenchmarkTest {
+    private static final int RECORD_COUNT = Integer.getInteger("benchmark.records", 200_000);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readJsonFile_largeFile_compareWithMapped() throws Exception {
+        Path file = testFolder.resolve("export.json");
+        writeExport(file, RECORD_COUNT);
+        System.out.printf("Reading %d records, %.1f MB%n", RECORD_COUNT, Files.size(file) / 1e6);
+
+        Reader stringReader = path -> JsonUtil.readJsonFile(path, Export.class).get();
+        Reader mappedReader = path -> JsonUtil.readJsonFileMapped(path, Export.class).get();
+        assertEquals(RECORD_COUNT, stringReader.read(file).persons.size());
+        assertEquals(RECORD_COUNT, mappedReader.read(file).persons.size());
+
+        measure("readFromFile + String", stringReader, file);
+        measure("memory-mapped", mappedReader, file);
+    }
+
+    private static void measure(String label, Reader reader, Path file) throws Exception {
+        AtomicLong peakHeapBytes = new AtomicLong();
+        double millis = Benchmark.medianOfTimedRounds(() -> {
+            System.gc();
+            long baselineHeapBytes = resetPeakHeapUsage();
+            long nanos = Benchmark.timeNanos(() -> reader.read(file));
+            peakHeapBytes.accumulateAndGet(getPeakHeapUsage() - baselineHeapBytes, Math::max);
+            return nanos;
+        }) / 1e6;
+        System.out.printf("%-22s median %7.1f ms, peak heap above baseline %7.1f MB%n",
+                label, millis, peakHeapBytes.get() / 1e6);
+    }
+
+    /**
+     * Resets the peak usage of every heap pool and returns the heap currently in use.
+     */
+    private static long resetPeakHeapUsage() {
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+                used += pool.getUsage().getUsed();
+            }
+        }
+        return used;
+    }
+
+    private static long getPeakHeapUsage() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+
+    private static void writeExport(Path file, int recordCount) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("{ \"persons\" : [ ");
+            for (int i = 0; i < recordCount; i++) {
+                if (i > 0) {
+                    writer.write(", ");
+                }
+                writer.write("{ \"name\" : \"Person " + i + "\", \"phone\" : \"9" + (1_000_000 + i)
+                        + "\", \"email\" : \"person" + i + "@example.com\", \"address\" : \"Blk " + i
+                        + ", Clementi Ave 3, #11-04\", \"notes\" : \"Met at the résumé workshop\" }");
+            }
+            writer.write(" ] }");
+        }
+    }
+
+    @FunctionalInterface
+    private interface Reader {
+        Export read(Path file) throws DataLoadingException;
+    }
+
+    /**
+     * A generic export holding each record as a map of field names to values.
+     */
+    private static class Export {
+        private List<Map<String, String>> persons = new ArrayList<>();
+    }
+}
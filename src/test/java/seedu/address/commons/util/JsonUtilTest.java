@@ -1,12 +1,20 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.testutil.SerializableTestClass;
 import seedu.address.testutil.TestUtil;
 
@@ -39,6 +47,72 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void readJsonArrayField_validFile_streamsEveryElement() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
+
+        List<LocalDateTime> streamed = new ArrayList<>();
+        boolean isFound = JsonUtil.readJsonArrayField(SERIALIZATION_FILE, "listOfLocalDateTimes",
+                LocalDateTime.class, streamed::add);
+
+        assertTrue(isFound);
+        assertEquals(SerializableTestClass.getListTestValues(), streamed);
+    }
+
+    @Test
+    public void readJsonArrayField_missingFile_returnsFalse() throws Exception {
+        assertFalse(JsonUtil.readJsonArrayField(TestUtil.getFilePathInSandboxFolder("missing.json"),
+                "listOfLocalDateTimes", LocalDateTime.class, element -> {}));
+    }
+
+    @Test
+    public void readJsonArrayField_notJsonObject_throwsDataLoadingException() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "[ 1, 2, 3 ]");
+        assertThrows(DataLoadingException.class, () -> JsonUtil.readJsonArrayField(SERIALIZATION_FILE,
+                "listOfLocalDateTimes", LocalDateTime.class, element -> {}));
+    }
+
+    @Test
+    public void readJsonArrayField_consumerRejectsElement_throwsIllegalValueException() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
+        assertThrows(IllegalValueException.class, () -> JsonUtil.readJsonArrayField(SERIALIZATION_FILE,
+                "listOfLocalDateTimes", LocalDateTime.class, element -> {
+                    throw new IllegalValueException("rejected");
+                }));
+    }
+
+    @Test
+    public void readJsonFileMapped_validFile_sameAsReadJsonFile() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
+
+        SerializableTestClass mapped = JsonUtil.readJsonFileMapped(SERIALIZATION_FILE, SerializableTestClass.class)
+                .get();
+
+        assertEquals(SerializableTestClass.getNameTestValue(), mapped.getName());
+        assertEquals(SerializableTestClass.getListTestValues(), mapped.getListOfLocalDateTimes());
+        assertEquals(SerializableTestClass.getHashMapTestValues(), mapped.getMapOfIntegerToString());
+    }
+
+    @Test
+    public void readJsonFileMapped_missingFile_emptyResult() throws Exception {
+        assertFalse(JsonUtil.readJsonFileMapped(TestUtil.getFilePathInSandboxFolder("missing.json"),
+                SerializableTestClass.class).isPresent());
+    }
+
+    @Test
+    public void readJsonFileMapped_emptyFile_throwsDataLoadingException() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "");
+        assertThrows(DataLoadingException.class, () -> JsonUtil.readJsonFileMapped(SERIALIZATION_FILE,
+                SerializableTestClass.class));
+    }
+
+    @Test
+    public void readJsonFileMapped_truncatedFile_throwsDataLoadingException() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{ \"name\" : \"This is a test");
+        assertThrows(DataLoadingException.class, () -> JsonUtil.readJsonFileMapped(SERIALIZATION_FILE,
+                SerializableTestClass.class));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
@@ -0,0 +1,71 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.Benchmark;
+
+/**
+ * Measures the time and the heap allocated per call of {@link StringUtil#calculateSimilarity(String, String)},
+ * and compares it with the thresholded {@link StringUtil#isSimilarAtLeast(String, String, double)}.
+ * Run with {@code gradlew benchmark}; the number of calls per round can be set with {@code -Dbenchmark.calls=N}.
+ */
+@Tag("benchmark")
+public class StringUtilBenchmarkTest {
+    private static final int CALL_COUNT = Integer.getInteger("benchmark.calls", 2_000_000);
+    private static final double THRESHOLD = 0.6;
+
+    private static final String[] WORDS = {
+        "alice", "pauline", "benson", "meier", "carl", "kurz", "daniel", "elle", "meyer", "fiona", "kunz",
+        "george", "best", "hoon", "ida", "mueller", "alise", "bensen", "jürgen", "o'brien"
+    };
+
+    @Test
+    public void calculateSimilarity_nameWords_allocatesNothing() throws Exception {
+        double nanosPerCall = (double) Benchmark.medianNanos(StringUtilBenchmarkTest::runCalls) / CALL_COUNT;
+
+        // Measured after the benchmark rounds, so that the code has been compiled and its allocations optimized away
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+        double checksum = runCalls();
+        double bytesPerCall = (double) (threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore) / CALL_COUNT;
+
+        System.out.printf("calculateSimilarity: median %.1f ns per call, %.3f bytes allocated per call (%.1f)%n",
+                nanosPerCall, bytesPerCall, checksum);
+        // The measurement itself may allocate a little, but nothing that scales with the number of calls
+        assertEquals(0, bytesPerCall, 0.01);
+    }
+
+    @Test
+    public void isSimilarAtLeast_nameWords_compareWithCalculateSimilarity() throws Exception {
+        long fullNanos = Benchmark.medianNanos(StringUtilBenchmarkTest::runCalls);
+        long thresholdedNanos = Benchmark.medianNanos(StringUtilBenchmarkTest::runThresholdedCalls);
+        System.out.printf("calculateSimilarity >= %.1f: median %.1f ns per call; isSimilarAtLeast: %.1f ns per call%n",
+                THRESHOLD, (double) fullNanos / CALL_COUNT, (double) thresholdedNanos / CALL_COUNT);
+    }
+
+    private static int runThresholdedCalls() {
+        int matchCount = 0;
+        for (int i = 0; i < CALL_COUNT; i++) {
+            if (StringUtil.isSimilarAtLeast(WORDS[i % WORDS.length], WORDS[(i / WORDS.length) % WORDS.length],
+                    THRESHOLD)) {
+                matchCount++;
+            }
+        }
+        return matchCount;
+    }
+
+    private static double runCalls() {
+        double sum = 0;
+        for (int i = 0; i < CALL_COUNT; i++) {
+            sum += StringUtil.calculateSimilarity(WORDS[i % WORDS.length], WORDS[(i / WORDS.length) % WORDS.length]);
+        }
+        return sum;
+    }
+}
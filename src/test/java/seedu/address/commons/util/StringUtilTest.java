@@ -1,10 +1,14 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -166,6 +170,110 @@ public class StringUtilTest {
         assertTrue(true);
     }
 
+    @Test
+    public void calculateSimilarity_randomStrings_matchesMatrixImplementation() {
+        Random random = new Random(42);
+        String alphabet = "abcdeé ñ0'";
+        for (int i = 0; i < 2000; i++) {
+            String a = randomString(random, alphabet, random.nextInt(12));
+            String b = randomString(random, i % 2 == 0 ? alphabet : "abcde", random.nextInt(40));
+            assertEquals(calculateSimilarityWithMatrix(a, b), StringUtil.calculateSimilarity(a, b), a + " / " + b);
+        }
+    }
+
+    @Test
+    public void calculateSimilarity_emptyOrNull_returnsZero() {
+        assertEquals(0.0, StringUtil.calculateSimilarity("", "abc"));
+        assertEquals(0.0, StringUtil.calculateSimilarity("abc", null));
+    }
+
+    @Test
+    public void isSimilarAtLeast_randomStrings_matchesCalculateSimilarity() {
+        Random random = new Random(7);
+        String alphabet = "abcdeé ñ0'";
+        double[] thresholds = {0.0, 0.3, 0.5, 0.6, 0.75, 0.9, 1.0};
+        for (int i = 0; i < 2000; i++) {
+            String a = randomString(random, alphabet, 1 + random.nextInt(10));
+            String b = i % 3 == 0 ? a : randomString(random, alphabet.substring(0, 1 + i % alphabet.length()),
+                    1 + random.nextInt(25));
+            double similarity = StringUtil.calculateSimilarity(a, b);
+            for (double threshold : thresholds) {
+                assertEquals(similarity >= threshold, StringUtil.isSimilarAtLeast(a, b, threshold),
+                        a + " / " + b + " at " + threshold);
+            }
+        }
+    }
+
+    @Test
+    public void isSimilarAtLeast_knownPairs() {
+        String[] x = getSimilarStringsX();
+        String[] y = getSimilarStringsY();
+        for (int i = 0; i < x.length; i++) {
+            assertTrue(StringUtil.isSimilarAtLeast(x[i], y[i], 0.6), x[i] + " / " + y[i]);
+        }
+        x = getDifferentStringsX();
+        y = getDifferentStringsY();
+        for (int i = 0; i < x.length; i++) {
+            assertFalse(StringUtil.isSimilarAtLeast(x[i], y[i], 0.6), x[i] + " / " + y[i]);
+        }
+    }
+
+    @Test
+    public void isSimilarAtLeast_emptyOrNull_comparesZeroSimilarity() {
+        assertFalse(StringUtil.isSimilarAtLeast("", "abc", 0.6));
+        assertFalse(StringUtil.isSimilarAtLeast(null, "abc", 0.6));
+        assertTrue(StringUtil.isSimilarAtLeast("", "abc", 0.0));
+    }
+
+    private static String randomString(Random random, String alphabet, int length) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * The straightforward similarity computation, with a full distance matrix and boxed character sets.
+     */
+    private static double calculateSimilarityWithMatrix(String a, String b) {
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0.0;
+        }
+        int[][] dp = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) {
+            for (int j = 0; j <= b.length(); j++) {
+                if (i == 0) {
+                    dp[i][j] = j;
+                } else if (j == 0) {
+                    dp[i][j] = i;
+                } else {
+                    dp[i][j] = Math.min(dp[i - 1][j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1),
+                            Math.min(dp[i - 1][j] + 1, dp[i][j - 1] + 1));
+                }
+            }
+        }
+
+        Set<Character> setA = new HashSet<>();
+        for (char c : a.toCharArray()) {
+            setA.add(c);
+        }
+        Set<Character> setB = new HashSet<>();
+        for (char c : b.toCharArray()) {
+            setB.add(c);
+        }
+        Set<Character> intersection = new HashSet<>(setA);
+        intersection.retainAll(setB);
+        Set<Character> union = new HashSet<>(setA);
+        union.addAll(setB);
+
+        double maxLength = Math.max(a.length(), b.length());
+        double editDistanceScore = 1 - (double) dp[a.length()][b.length()] / maxLength;
+        double overlapScore = (double) intersection.size() / union.size();
+        double lengthRatioScore = Math.min((double) a.length(), b.length()) / Math.max(a.length(), b.length());
+        return (0.6 * editDistanceScore) + (0.3 * overlapScore) + (0.1 * lengthRatioScore);
+    }
+
     public static String[] getSimilarStringsX() {
         return new String[]{
             "apple",
@@ -0,0 +1,93 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FilterCommand.MatchMode;
+import seedu.address.model.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FilterCommand}.
+ */
+public class FilterCommandTest {
+    private static final Tag FRIENDS = new Tag("friends");
+    private static final Tag OWES_MONEY = new Tag("owesMoney");
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new CommandHistory());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new CommandHistory());
+
+    @Test
+    public void equals() {
+        FilterCommand filterFriendsCommand = new FilterCommand(Set.of(FRIENDS), MatchMode.ALL);
+
+        // same object -> returns true
+        assertTrue(filterFriendsCommand.equals(filterFriendsCommand));
+
+        // same values -> returns true
+        assertTrue(filterFriendsCommand.equals(new FilterCommand(Set.of(FRIENDS), MatchMode.ALL)));
+
+        // different types -> returns false
+        assertFalse(filterFriendsCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(filterFriendsCommand.equals(null));
+
+        // different tags -> returns false
+        assertFalse(filterFriendsCommand.equals(new FilterCommand(Set.of(OWES_MONEY), MatchMode.ALL)));
+
+        // different match mode -> returns false
+        assertFalse(filterFriendsCommand.equals(new FilterCommand(Set.of(FRIENDS), MatchMode.ANY)));
+    }
+
+    @Test
+    public void execute_allTags_personsWithEveryTagFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        FilterCommand command = new FilterCommand(Set.of(FRIENDS, OWES_MONEY), MatchMode.ALL);
+        expectedModel.updateFilteredPersonList(person -> person.getTags().containsAll(Set.of(FRIENDS, OWES_MONEY)));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_anyTag_personsWithSomeTagFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        FilterCommand command = new FilterCommand(Set.of(FRIENDS, new Tag("unknown")), MatchMode.ANY);
+        expectedModel.updateFilteredPersonList(person -> person.getTags().contains(FRIENDS));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_unknownTag_noPersonFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        FilterCommand command = new FilterCommand(Set.of(new Tag("unknown")), MatchMode.ALL);
+        expectedModel.updateFilteredPersonList(unused -> false);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        Set<Tag> tags = Set.of(FRIENDS);
+        FilterCommand filterCommand = new FilterCommand(tags, MatchMode.ANY);
+        String expected = FilterCommand.class.getCanonicalName() + "{tags=" + tags + ", matchMode=ANY}";
+        assertEquals(expected, filterCommand.toString());
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.Benchmark;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Measures sorting a large book by upcoming birthday with {@link ListCommand#getBirthdayComparator}, and compares
+ * it with the previous comparator that worked out the days until each birthday with date arithmetic on every
+ * comparison. Run with {@code gradlew benchmark}; the book size can be set with {@code -Dbenchmark.persons=N}.
+ */
+@Tag("benchmark")
+public class ListCommandBenchmarkTest {
+    private static final int PERSON_COUNT = Integer.getInteger("benchmark.persons", 100_000);
+
+    @Test
+    public void getBirthdayComparator_largeBook_compareWithDateArithmetic() throws Exception {
+        List<Person> persons = createPersons();
+        LocalDate today = LocalDate.of(2024, 2, 29);
+        Comparator<Person> keyComparator = ListCommand.getBirthdayComparator(today, false);
+        Comparator<Person> dateComparator = getDateArithmeticComparator(today);
+
+        List<Person> sortedByKey = new ArrayList<>(persons);
+        sortedByKey.sort(keyComparator);
+        List<Person> sortedByDate = new ArrayList<>(persons);
+        sortedByDate.sort(dateComparator);
+        assertEquals(sortedByDate, sortedByKey);
+
+        System.out.printf("Sorting %d persons: date arithmetic median %.1f ms, precomputed keys median %.1f ms%n",
+                PERSON_COUNT, measure(persons, dateComparator), measure(persons, keyComparator));
+    }
+
+    private static double measure(List<Person> persons, Comparator<Person> comparator) throws Exception {
+        return Benchmark.medianOfTimedRounds(() -> {
+            List<Person> copy = new ArrayList<>(persons);
+            return Benchmark.timeNanos(() -> copy.sort(comparator));
+        }) / 1e6;
+    }
+
+    private static List<Person> createPersons() {
+        Random random = new Random(42);
+        List<Person> persons = new ArrayList<>(PERSON_COUNT);
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            PersonBuilder builder = new PersonBuilder().withName("Person " + i);
+            if (i % 10 != 0) {
+                LocalDate birthDate = LocalDate.of(1950 + random.nextInt(70), 1, 1).plusDays(random.nextInt(365));
+                builder.withBirthday(String.format("%02d-%02d-%04d", birthDate.getDayOfMonth(),
+                        birthDate.getMonthValue(), birthDate.getYear()));
+            }
+            persons.add(builder.build());
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the comparator as it was before birthdays had precomputed keys.
+     */
+    private static Comparator<Person> getDateArithmeticComparator(LocalDate today) {
+        return Comparator.comparing(person -> person.getBirthday()
+                .map(birthday -> {
+                    MonthDay birthdayMonthDay = MonthDay.from(birthday.getLocalDate());
+                    MonthDay currentMonthDay = MonthDay.from(today);
+                    LocalDate nextBirthday = birthdayMonthDay.atYear(today.getYear());
+                    if (birthdayMonthDay.isBefore(currentMonthDay)) {
+                        nextBirthday = nextBirthday.plusYears(1);
+                    }
+                    return ChronoUnit.DAYS.between(today, nextBirthday);
+                })
+                .orElse(Long.MAX_VALUE), Comparator.naturalOrder());
+    }
+}
@@ -1,13 +1,19 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.time.LocalDate;
+import java.time.MonthDay;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -137,5 +143,63 @@ public class ListCommandTest {
                 model, ListCommand.MESSAGE_DESC_SUCCESS, expectedModel);
     }
 
+    @Test
+    public void getBirthdayComparator_variousDays_ordersByDaysUntilBirthday() {
+        List<Person> persons = new ArrayList<>();
+        persons.add(new PersonBuilder().withName("NoBday").build());
+        for (String birthday : List.of("01-01-1990", "27-02-1991", "28-02-1992", "29-02-2000", "01-03-1993",
+                "15-06-1994", "31-12-1995", "28-02-1996", "29-02-2004")) {
+            persons.add(new PersonBuilder().withName("Born " + birthday).withBirthday(birthday).build());
+        }
+
+        for (String today : List.of("2023-01-01", "2023-02-28", "2023-03-01", "2023-12-31", "2024-02-28",
+                "2024-02-29", "2024-03-01", "2027-06-15", "2027-03-01")) {
+            LocalDate date = LocalDate.parse(today);
+            Comparator<Person> expected = Comparator.comparingLong(person -> getDaysUntilBirthday(person, date));
+            for (boolean descending : new boolean[] {false, true}) {
+                Comparator<Person> comparator = ListCommand.getBirthdayComparator(date, descending);
+                for (Person first : persons) {
+                    for (Person second : persons) {
+                        int expectedOrder = Integer.signum(expected.compare(first, second));
+                        assertEquals(descending ? -expectedOrder : expectedOrder,
+                                Integer.signum(comparator.compare(first, second)),
+                                today + ": " + first.getName() + " / " + second.getName());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void getBirthdayComparator_leapDayPassedBeforeLeapYear_celebratedOnTwentyEighth() {
+        Person leapDay = new PersonBuilder().withName("Leap").withBirthday("29-02-2000").build();
+        Person twentyEighth = new PersonBuilder().withName("Eighth").withBirthday("28-02-1990").build();
+        Person firstOfMarch = new PersonBuilder().withName("March").withBirthday("01-03-1990").build();
+
+        // 2024 is a leap year, but a birthday that has passed in 2023 is moved on with plusYears from 28 February
+        Comparator<Person> comparator = ListCommand.getBirthdayComparator(LocalDate.parse("2023-06-15"), false);
+        assertEquals(0, comparator.compare(leapDay, twentyEighth));
+        assertTrue(comparator.compare(leapDay, firstOfMarch) < 0);
+
+        // Before the birthday in a leap year, it is celebrated on the day itself
+        comparator = ListCommand.getBirthdayComparator(LocalDate.parse("2024-01-15"), false);
+        assertTrue(comparator.compare(twentyEighth, leapDay) < 0);
+        assertTrue(comparator.compare(leapDay, firstOfMarch) < 0);
+    }
 
+    /**
+     * Returns the number of days from {@code today} until the next birthday of {@code person},
+     * or {@code Long.MAX_VALUE} if the birthday is unknown, computed as the comparator did before it used
+     * month-day keys.
+     */
+    private static long getDaysUntilBirthday(Person person, LocalDate today) {
+        return person.getBirthday().map(birthday -> {
+            MonthDay birthdayMonthDay = MonthDay.from(birthday.getLocalDate());
+            LocalDate nextBirthday = birthdayMonthDay.atYear(today.getYear());
+            if (birthdayMonthDay.isBefore(MonthDay.from(today))) {
+                nextBirthday = nextBirthday.plusYears(1);
+            }
+            return ChronoUnit.DAYS.between(today, nextBirthday);
+        }).orElse(Long.MAX_VALUE);
+    }
 }
@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.commands.FilterCommand.MatchMode;
+import seedu.address.model.tag.Tag;
+
+public class FilterCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE);
+
+    private FilterCommandParser parser = new FilterCommandParser();
+
+    @Test
+    public void parse_noTags_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "or", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidMatchMode_throwsParseException() {
+        assertParseFailure(parser, "xor t/friends", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidTag_throwsParseException() {
+        assertParseFailure(parser, "t/friends t/best friend", Tag.MESSAGE_CONSTRAINTS_CHARACTERS);
+    }
+
+    @Test
+    public void parse_validArgs_returnsFilterCommand() {
+        Set<Tag> tags = Set.of(new Tag("friends"), new Tag("colleagues"));
+        FilterCommand matchAllCommand = new FilterCommand(tags, MatchMode.ALL);
+        assertParseSuccess(parser, " t/friends t/colleagues", matchAllCommand);
+        assertParseSuccess(parser, " AND \n t/friends \t t/colleagues ", matchAllCommand);
+
+        assertParseSuccess(parser, " or t/friends t/colleagues", new FilterCommand(tags, MatchMode.ANY));
+    }
+}
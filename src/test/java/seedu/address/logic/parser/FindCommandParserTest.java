@@ -5,11 +5,15 @@ import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailur
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.person.namepredicate.NameContainsKeywordsPredicate;
+import seedu.address.model.person.query.FieldClause;
+import seedu.address.model.person.query.PersonQuery;
+import seedu.address.model.person.query.SearchField;
 
 public class FindCommandParserTest {
 
@@ -31,4 +35,26 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fieldPrefixes_returnsQueryFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(new PersonQuery(List.of(
+                new FieldClause(SearchField.NAME, List.of("ali")),
+                new FieldClause(SearchField.TAG, List.of("friend")),
+                new FieldClause(SearchField.RELATIONSHIP, List.of("colleague", "boss")))));
+        assertParseSuccess(parser, "t/friend r/colleague  boss n/ali", expectedFindCommand);
+
+        // preamble is an extra name clause
+        FindCommand expectedWithPreamble = new FindCommand(new PersonQuery(List.of(
+                new FieldClause(SearchField.NAME, List.of("bob")),
+                new FieldClause(SearchField.NICKNAME, List.of("bobby")),
+                new FieldClause(SearchField.NOTES, List.of("gym")))));
+        assertParseSuccess(parser, "bob nn/bobby no/gym", expectedWithPreamble);
+    }
+
+    @Test
+    public void parse_emptyFieldValue_throwsParseException() {
+        assertParseFailure(parser, "t/ n/ali",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
 }
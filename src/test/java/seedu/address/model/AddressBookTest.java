@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -83,6 +84,44 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getVersion_afterModification_changes() {
+        long initialVersion = addressBook.getVersion();
+        addressBook.addPerson(ALICE);
+        long versionAfterAdd = addressBook.getVersion();
+        assertNotEquals(initialVersion, versionAfterAdd);
+
+        addressBook.hasPerson(ALICE);
+        addressBook.getPersonList();
+        assertEquals(versionAfterAdd, addressBook.getVersion());
+
+        addressBook.removePerson(ALICE);
+        assertNotEquals(versionAfterAdd, addressBook.getVersion());
+    }
+
+    @Test
+    public void getVersion_batch_changesOnlyIfPersonsChanged() {
+        addressBook.addPerson(ALICE);
+        long versionAfterAdd = addressBook.getVersion();
+
+        addressBook.batch(book -> book.hasPerson(ALICE));
+        assertEquals(versionAfterAdd, addressBook.getVersion());
+
+        addressBook.batch(book -> book.removePerson(ALICE));
+        assertNotEquals(versionAfterAdd, addressBook.getVersion());
+    }
+
+    @Test
+    public void getVersion_copy_sameUntilEitherModified() {
+        AddressBook original = getTypicalAddressBook();
+        AddressBook copy = new AddressBook(original);
+        assertEquals(original.getVersion(), copy.getVersion());
+
+        copy.removePerson(ALICE);
+        original.removePerson(ALICE);
+        assertNotEquals(original.getVersion(), copy.getVersion());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
@@ -103,6 +142,11 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
 }
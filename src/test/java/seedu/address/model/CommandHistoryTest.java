@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -191,4 +192,20 @@ public class CommandHistoryTest {
         assertFalse(history1.equals(null)); // Null
         assertFalse(history1.equals("string")); // Different type
     }
+
+    @Test
+    public void getVersion_addCommand_changes() {
+        long initialVersion = commandHistory.getVersion();
+        commandHistory.addCommand(VALID_COMMAND_1);
+        assertNotEquals(initialVersion, commandHistory.getVersion());
+    }
+
+    @Test
+    public void getVersion_navigation_unchanged() {
+        commandHistory.addCommand(VALID_COMMAND_1);
+        long version = commandHistory.getVersion();
+        commandHistory.getPreviousCommand();
+        commandHistory.resetNavigation();
+        assertEquals(version, commandHistory.getVersion());
+    }
 }
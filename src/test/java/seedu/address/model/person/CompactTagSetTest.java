@@ -0,0 +1,57 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+
+public class CompactTagSetTest {
+
+    private final Set<Tag> tags = Set.of(new Tag("friends"), new Tag("colleagues"));
+
+    @Test
+    public void of_tags_equalToHashSet() {
+        CompactTagSet compactTags = CompactTagSet.of(tags);
+        Set<Tag> hashSet = new HashSet<>(tags);
+
+        assertEquals(hashSet, compactTags);
+        assertEquals(compactTags, hashSet);
+        assertEquals(hashSet.hashCode(), compactTags.hashCode());
+        assertTrue(compactTags.contains(new Tag("friends")));
+        assertFalse(compactTags.contains(new Tag("family")));
+        assertFalse(compactTags.contains(null));
+    }
+
+    @Test
+    public void of_emptyOrCompactSet_reusesSet() {
+        assertSame(CompactTagSet.of(Collections.emptySet()), CompactTagSet.of(new HashSet<>()));
+        CompactTagSet compactTags = CompactTagSet.of(tags);
+        assertSame(compactTags, CompactTagSet.of(compactTags));
+    }
+
+    @Test
+    public void modify_anyMethod_throwsUnsupportedOperationException() {
+        CompactTagSet compactTags = CompactTagSet.of(tags);
+        Tag family = new Tag("family");
+        assertThrows(UnsupportedOperationException.class, () -> compactTags.add(family));
+        assertThrows(UnsupportedOperationException.class, () -> compactTags.remove(family));
+        assertThrows(UnsupportedOperationException.class, () -> compactTags.removeAll(List.of(family)));
+        assertThrows(UnsupportedOperationException.class, () -> compactTags.retainAll(tags));
+        assertThrows(UnsupportedOperationException.class, () -> compactTags.removeIf(tag -> false));
+        assertThrows(UnsupportedOperationException.class, compactTags::clear);
+        assertThrows(UnsupportedOperationException.class, () -> {
+            compactTags.iterator().next();
+            compactTags.iterator().remove();
+        });
+    }
+}
@@ -0,0 +1,142 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.ref.Reference;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Measures the heap retained per person by {@link Person}, and compares it with the previous layout that wrapped
+ * every optional field in an {@code Optional}, copied the tags into a {@code HashSet}, and gave every person fresh
+ * tag, relationship and default image path objects.
+ * Run with {@code gradlew benchmark}; the book size can be set with {@code -Dbenchmark.persons=N}.
+ */
+@Tag("benchmark")
+public class PersonMemoryBenchmarkTest {
+    private static final int PERSON_COUNT = Integer.getInteger("benchmark.persons", 100_000);
+    private static final String[] TAG_NAMES = {"friends", "colleagues", "family", "neighbours", "classmates"};
+    private static final String[] RELATIONSHIPS = {"Brother", "Cousin", "Old Classmate", "Tutor"};
+
+    @Test
+    public void person_largeBook_retainsLessThanPreviousLayout() {
+        long legacyBytes = measureRetainedBytes(PersonMemoryBenchmarkTest::createLegacyPerson);
+        long compactBytes = measureRetainedBytes(PersonMemoryBenchmarkTest::createPerson);
+
+        System.out.printf("%d persons: previous layout %.1f bytes per person, compact layout %.1f bytes per person%n",
+                PERSON_COUNT, (double) legacyBytes / PERSON_COUNT, (double) compactBytes / PERSON_COUNT);
+        assertTrue(compactBytes < legacyBytes);
+    }
+
+    private static long measureRetainedBytes(PersonFactory factory) {
+        Object[] book = new Object[PERSON_COUNT];
+        long before = getUsedHeap();
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            book[i] = factory.create(i);
+        }
+        long after = getUsedHeap();
+        Reference.reachabilityFence(book);
+        return after - before;
+    }
+
+    private static long getUsedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        // A single request may leave garbage behind, so collect until the used heap stops shrinking
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return used;
+    }
+
+    private static Person createPerson(int i) {
+        Set<seedu.address.model.tag.Tag> tags = new HashSet<>();
+        for (String tagName : getTagNames(i)) {
+            tags.add(seedu.address.model.tag.Tag.of(tagName));
+        }
+        return new Person(new Name("Person " + i), Optional.of(new Phone(getPhone(i))),
+                Optional.of(new Email(getEmail(i))), getAddress(i).map(Address::new), Optional.empty(),
+                getRelationship(i).map(Relationship::of), Optional.empty(), Optional.empty(), Optional.empty(),
+                tags);
+    }
+
+    private static LegacyPerson createLegacyPerson(int i) {
+        Set<seedu.address.model.tag.Tag> tags = new HashSet<>();
+        for (String tagName : getTagNames(i)) {
+            tags.add(new seedu.address.model.tag.Tag(tagName));
+        }
+        return new LegacyPerson(new Name("Person " + i), Optional.of(new Phone(getPhone(i))),
+                Optional.of(new Email(getEmail(i))), getAddress(i).map(Address::new), Optional.empty(),
+                getRelationship(i).map(Relationship::new), Optional.empty(), Optional.empty(),
+                new ImagePath(new String(ImagePath.getDefault().getPath())), tags);
+    }
+
+    private static String[] getTagNames(int i) {
+        return i % 3 == 0
+                ? new String[] {TAG_NAMES[i % TAG_NAMES.length], TAG_NAMES[(i + 1) % TAG_NAMES.length]}
+                : new String[] {TAG_NAMES[i % TAG_NAMES.length]};
+    }
+
+    private static String getPhone(int i) {
+        return String.valueOf(80_000_000 + i);
+    }
+
+    private static String getEmail(int i) {
+        return "person" + i + "@example.com";
+    }
+
+    private static Optional<String> getAddress(int i) {
+        return i % 2 == 0 ? Optional.of(i + " Clementi Ave") : Optional.empty();
+    }
+
+    private static Optional<String> getRelationship(int i) {
+        return i % 4 == 0 ? Optional.empty() : Optional.of(RELATIONSHIPS[i % RELATIONSHIPS.length]);
+    }
+
+    @FunctionalInterface
+    private interface PersonFactory {
+        Object create(int i);
+    }
+
+    /**
+     * The fields of a person as they were laid out before persons were made compact.
+     */
+    @SuppressWarnings("unused")
+    private static class LegacyPerson {
+        private final Name name;
+        private final Optional<Phone> phone;
+        private final Optional<Email> email;
+        private final Optional<Address> address;
+        private final Optional<Birthday> birthday;
+        private final Optional<Relationship> relationship;
+        private final Optional<Nickname> nickname;
+        private final Optional<Notes> notes;
+        private final Set<seedu.address.model.tag.Tag> tags = new HashSet<>();
+        private final ImagePath imagePath;
+
+        LegacyPerson(Name name, Optional<Phone> phone, Optional<Email> email, Optional<Address> address,
+                Optional<Birthday> birthday, Optional<Relationship> relationship, Optional<Nickname> nickname,
+                Optional<Notes> notes, ImagePath imagePath, Set<seedu.address.model.tag.Tag> tags) {
+            this.name = name;
+            this.phone = phone;
+            this.email = email;
+            this.address = address;
+            this.birthday = birthday;
+            this.relationship = relationship;
+            this.nickname = nickname;
+            this.notes = notes;
+            this.imagePath = imagePath;
+            this.tags.addAll(tags);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -89,6 +90,20 @@ public class PersonTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void getFieldOrNull_matchesOptionalGetters() {
+        for (Person person : new Person[] {new PersonBuilder().build(), new PersonBuilder(true).build()}) {
+            assertEquals(person.getPhone().orElse(null), person.getPhoneOrNull());
+            assertEquals(person.getEmail().orElse(null), person.getEmailOrNull());
+            assertEquals(person.getAddress().orElse(null), person.getAddressOrNull());
+            assertEquals(person.getBirthday().orElse(null), person.getBirthdayOrNull());
+            assertEquals(person.getRelationship().orElse(null), person.getRelationshipOrNull());
+            assertEquals(person.getNickname().orElse(null), person.getNicknameOrNull());
+            assertEquals(person.getNotes().orElse(null), person.getNotesOrNull());
+        }
+        assertNull(new PersonBuilder().build().getBirthdayOrNull());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Person.class.getCanonicalName() + "{name=" + ALICE.getName() + ", phone=" + ALICE.getPhone()
@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -49,4 +51,24 @@ public class RelationshipTest {
         // different values -> returns false
         assertFalse(relationship.equals(new Relationship("Other Valid Relationship")));
     }
+
+    @Test
+    public void of_sameValue_returnsSharedInstance() {
+        Relationship relationship = Relationship.of("Cousin");
+        assertSame(relationship, Relationship.of("Cousin"));
+        assertSame(relationship, Relationship.ofTrusted("Cousin"));
+        assertEquals(new Relationship("Cousin"), relationship);
+    }
+
+    @Test
+    public void ofTrusted_invalidRelationship_keepsRelationshipOutOfPool() {
+        Relationship relationship = Relationship.ofTrusted("not/valid");
+        assertEquals("not/valid", relationship.getRelationshipString());
+        assertThrows(IllegalArgumentException.class, () -> Relationship.of("not/valid"));
+    }
+
+    @Test
+    public void of_invalidRelationship_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Relationship.of("*_/"));
+    }
 }
@@ -0,0 +1,55 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class SearchKeyTest {
+
+    @Test
+    public void of_nullValue_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> SearchKey.of(null));
+    }
+
+    @Test
+    public void getTokens_mixedCaseAndWhitespace_lowercasedWordsInOrder() {
+        assertEquals(List.of("zoe", "alice", "o'brien"), SearchKey.of("Zoe  ALICE\tO'Brien").getTokens());
+    }
+
+    @Test
+    public void hasTokenWithPrefix() {
+        SearchKey searchKey = SearchKey.of("Zoe Alice Albert");
+
+        // prefixes of any word, including whole words
+        assertTrue(searchKey.hasTokenWithPrefix("al"));
+        assertTrue(searchKey.hasTokenWithPrefix("albert"));
+        assertTrue(searchKey.hasTokenWithPrefix("z"));
+        assertTrue(searchKey.hasTokenWithPrefix(""));
+
+        // not a prefix of any word
+        assertFalse(searchKey.hasTokenWithPrefix("lice"));
+        assertFalse(searchKey.hasTokenWithPrefix("alberta"));
+        assertFalse(searchKey.hasTokenWithPrefix("b"));
+    }
+
+    @Test
+    public void getTokenHash_firstCharacters_setsMatchingBits() {
+        long tokenHash = SearchKey.of("Alice Bob").getTokenHash();
+        assertEquals(2, Long.bitCount(tokenHash));
+        assertTrue((tokenHash & (1L << ('a' & 63))) != 0);
+        assertTrue((tokenHash & (1L << ('b' & 63))) != 0);
+    }
+
+    @Test
+    public void getSearchKey_sameName_computedOnce() {
+        Name name = new Name("Alice Pauline");
+        assertSame(name.getSearchKey(), name.getSearchKey());
+        assertEquals(List.of("alice", "pauline"), name.getSearchKey().getTokens());
+    }
+}
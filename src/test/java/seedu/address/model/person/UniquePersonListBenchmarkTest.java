@@ -0,0 +1,67 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.Benchmark;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Measures changing a {@link UniquePersonList} at two book sizes, to show that the time grows linearly with the
+ * number of persons. A list that scanned itself for every person would take four times as long for twice as many.
+ * Run with {@code gradlew benchmark}; the smaller book size can be set with {@code -Dbenchmark.persons=N}.
+ */
+@Tag("benchmark")
+public class UniquePersonListBenchmarkTest {
+    private static final int PERSON_COUNT = Integer.getInteger("benchmark.persons", 100_000);
+
+    @Test
+    public void add_twiceAsManyPersons_takesAboutTwiceAsLong() throws Exception {
+        double smallMillis = measureAdd(createPersons(PERSON_COUNT));
+        double largeMillis = measureAdd(createPersons(2 * PERSON_COUNT));
+        System.out.printf("Adding %d persons one by one: median %.1f ms; %d persons: median %.1f ms%n",
+                PERSON_COUNT, smallMillis, 2 * PERSON_COUNT, largeMillis);
+        assertTrue(largeMillis < 3 * smallMillis);
+    }
+
+    @Test
+    public void batch_removeHalfOfTwiceAsManyPersons_takesAboutTwiceAsLong() throws Exception {
+        double smallMillis = measureBatchRemove(createPersons(PERSON_COUNT));
+        double largeMillis = measureBatchRemove(createPersons(2 * PERSON_COUNT));
+        System.out.printf("Removing half of %d persons in a batch: median %.1f ms; of %d persons: median %.1f ms%n",
+                PERSON_COUNT, smallMillis, 2 * PERSON_COUNT, largeMillis);
+        assertTrue(largeMillis < 3 * smallMillis);
+    }
+
+    private static double measureAdd(List<Person> persons) throws Exception {
+        return Benchmark.medianOfTimedRounds(() -> {
+            UniquePersonList uniquePersonList = new UniquePersonList();
+            // Collected outside the timed part, so that garbage left by earlier rounds is not charged to this one
+            System.gc();
+            return Benchmark.timeNanos(() -> persons.forEach(uniquePersonList::add));
+        }) / 1e6;
+    }
+
+    private static double measureBatchRemove(List<Person> persons) throws Exception {
+        List<Person> toRemove = persons.subList(0, persons.size() / 2);
+        return Benchmark.medianOfTimedRounds(() -> {
+            UniquePersonList uniquePersonList = new UniquePersonList();
+            uniquePersonList.setPersons(persons);
+            System.gc();
+            return Benchmark.timeNanos(() -> uniquePersonList.batch(book -> toRemove.forEach(book::removePerson)));
+        }) / 1e6;
+    }
+
+    private static List<Person> createPersons(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).build());
+        }
+        return persons;
+    }
+}
@@ -7,20 +7,33 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.person.namepredicate.NameContainsKeywordsPredicate;
+import seedu.address.model.person.namepredicate.NameSimilarPredicate;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
 
+    private static final int MANY_PERSONS = 1_000;
+
     private final UniquePersonList uniquePersonList = new UniquePersonList();
 
     @Test
@@ -127,6 +140,84 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void batch_nullEdits_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.batch(null));
+    }
+
+    @Test
+    public void batch_duplicatePersons_throwsDuplicatePersonExceptionAndChangesNothing() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.batch(book -> {
+            book.addPerson(BENSON);
+            book.addPerson(ALICE);
+        }));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.batch(book -> {
+            book.addPerson(BENSON);
+            book.setPerson(ALICE, BENSON);
+        }));
+        assertFalse(uniquePersonList.contains(BENSON));
+    }
+
+    @Test
+    public void batch_personDoesNotExist_throwsPersonNotFoundExceptionAndChangesNothing() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.batch(book -> {
+            book.removePerson(ALICE);
+            book.removePerson(ALICE);
+        }));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.batch(book -> book.setPerson(BOB, BENSON)));
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void batch_noEdits_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        assertFalse(uniquePersonList.batch(book -> book.hasPerson(ALICE)));
+    }
+
+    @Test
+    public void batch_addSetAndRemove_appliesEditsInOrder() {
+        uniquePersonList.setPersons(List.of(ALICE, BENSON, CARL, DANIEL));
+        Person editedCarl = new PersonBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+        assertTrue(uniquePersonList.batch(book -> {
+            book.removePerson(DANIEL);
+            book.removePerson(BENSON);
+            book.setPerson(CARL, editedCarl);
+            book.addPerson(BENSON);
+        }));
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(List.of(ALICE, editedCarl, BENSON));
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(DANIEL));
+        assertEquals(1, uniquePersonList.indexOf(editedCarl));
+        assertEquals(2, uniquePersonList.indexOf(BENSON));
+    }
+
+    @Test
+    public void batch_removeManyPersons_changesListOnce() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < MANY_PERSONS; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).build());
+        }
+        uniquePersonList.setPersons(persons);
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList()
+                .addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        // Removing the persons one by one would shift the rest of the list and notify listeners every time
+        uniquePersonList.batch(book -> persons.subList(0, MANY_PERSONS / 2).forEach(book::removePerson));
+        assertEquals(1, changeCount[0]);
+        assertEquals(0, uniquePersonList.indexOf(persons.get(MANY_PERSONS / 2)));
+    }
+
+    @Test
+    public void batch_setPersonToEqualPerson_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        assertFalse(uniquePersonList.batch(book -> book.setPerson(ALICE, new PersonBuilder(ALICE).build())));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +253,144 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSeveralDuplicates_reportsEveryDuplicateName() {
+        Person editedBob = new PersonBuilder(BOB).withAddress(VALID_ADDRESS_BOB).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, ALICE, editedBob, ALICE);
+        String expectedMessage = "Operation would result in duplicate persons: Alice Pauline, Bob Choo";
+        assertThrows(DuplicatePersonException.class, expectedMessage, () ->
+                uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void indexOf_personInList_returnsPosition() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(1, uniquePersonList.indexOf(BOB));
+    }
+
+    @Test
+    public void indexOf_personWithSameIdentityButDifferentFields_returnsMinusOne() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertEquals(-1, uniquePersonList.indexOf(editedAlice));
+    }
+
+    @Test
+    public void indexOf_afterRemoveAndSet_tracksShiftedPositions() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(ALICE);
+        assertEquals(0, uniquePersonList.indexOf(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+
+        uniquePersonList.setPerson(BOB, ALICE);
+        assertEquals(0, uniquePersonList.indexOf(ALICE));
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void add_manyPersons_indexesEveryPerson() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < MANY_PERSONS; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).build());
+        }
+        persons.forEach(uniquePersonList::add);
+
+        for (int i = 0; i < MANY_PERSONS; i++) {
+            assertEquals(i, uniquePersonList.indexOf(persons.get(i)));
+        }
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(persons.get(MANY_PERSONS / 2)));
+    }
+
+    @Test
+    public void findByNamePrefixes_prefixesOfNameWords_returnsMatchingPersons() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, HOON));
+
+        assertEquals(Set.of(BENSON, HOON), uniquePersonList.findByNamePrefixes(List.of("MEI")));
+        assertEquals(Set.of(ALICE, HOON), uniquePersonList.findByNamePrefixes(List.of("pau", "hoon")));
+        assertTrue(uniquePersonList.findByNamePrefixes(List.of("eier")).isEmpty());
+        assertTrue(uniquePersonList.findByNamePrefixes(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void findByNamePrefixes_afterAddEditAndRemove_reflectsChanges() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        Person renamedBenson = new PersonBuilder(BENSON).withName("Benson Tan").build();
+        uniquePersonList.setPerson(BENSON, renamedBenson);
+        uniquePersonList.remove(ALICE);
+
+        assertTrue(uniquePersonList.findByNamePrefixes(List.of("meier", "alice")).isEmpty());
+        assertEquals(Set.of(renamedBenson), uniquePersonList.findByNamePrefixes(List.of("ta")));
+    }
+
+    @Test
+    public void findByNamePrefixes_matchesNameContainsKeywordsPredicate() {
+        List<Person> persons = Arrays.asList(ALICE, BENSON, BOB, HOON);
+        uniquePersonList.setPersons(persons);
+        for (String keyword : List.of("a", "b", "me", "meier", "bob", "x")) {
+            Set<Person> matches = uniquePersonList.findByNamePrefixes(List.of(keyword));
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of(keyword));
+            for (Person person : persons) {
+                assertEquals(predicate.test(person), matches.contains(person));
+            }
+        }
+    }
+
+    @Test
+    public void findBySimilarName_matchesNameSimilarPredicate() {
+        List<Person> persons = Arrays.asList(ALICE, BENSON, BOB, HOON);
+        uniquePersonList.setPersons(persons);
+        for (String keyword : List.of("alise", "meyer", "bensen", "hon", "ac", "zzz")) {
+            Set<Person> matches = uniquePersonList.findBySimilarName(List.of(keyword), NameSimilarPredicate.THRESHOLD);
+            NameSimilarPredicate predicate = new NameSimilarPredicate(List.of(keyword));
+            for (Person person : persons) {
+                assertEquals(predicate.test(person), matches.contains(person), keyword + " / " + person.getName());
+            }
+        }
+    }
+
+    @Test
+    public void findByTags_allAndAnyTags_returnsMatchingPersons() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, BOB, HOON));
+        Tag friends = new Tag("friends");
+        Tag owesMoney = new Tag("owesMoney");
+        Tag husband = new Tag(VALID_TAG_HUSBAND);
+
+        assertEquals(Set.of(ALICE, BENSON), uniquePersonList.findByAllTags(List.of(friends)));
+        assertEquals(Set.of(BENSON), uniquePersonList.findByAllTags(List.of(friends, owesMoney)));
+        assertTrue(uniquePersonList.findByAllTags(List.of(owesMoney, husband)).isEmpty());
+        assertTrue(uniquePersonList.findByAllTags(Collections.emptyList()).isEmpty());
+
+        assertEquals(Set.of(BENSON, BOB), uniquePersonList.findByAnyTag(List.of(owesMoney, husband)));
+        assertTrue(uniquePersonList.findByAnyTag(List.of(new Tag("unknown"))).isEmpty());
+    }
+
+    @Test
+    public void getTagCounts_afterAddEditAndRemove_reflectsChanges() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        assertEquals(Map.of(new Tag("friends"), 2, new Tag("owesMoney"), 1), uniquePersonList.getTagCounts());
+
+        Person retaggedBenson = new PersonBuilder(BENSON).withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPerson(BENSON, retaggedBenson);
+        uniquePersonList.remove(ALICE);
+
+        assertEquals(Map.of(new Tag(VALID_TAG_HUSBAND), 1), uniquePersonList.getTagCounts());
+        assertEquals(Set.of(retaggedBenson), uniquePersonList.findByAnyTag(List.of(new Tag(VALID_TAG_HUSBAND))));
+        assertTrue(uniquePersonList.findByAnyTag(List.of(new Tag("friends"))).isEmpty());
+
+        uniquePersonList.setPersons(Collections.emptyList());
+        assertTrue(uniquePersonList.getTagCounts().isEmpty());
+    }
+
+    @Test
+    public void getTagCounts_modifyMap_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, ()
+            -> uniquePersonList.getTagCounts().put(new Tag("friends"), 1));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,87 @@
+package seedu.address.model.person.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+public class PersonQueryTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), new CommandHistory());
+
+    @Test
+    public void constructor_noClauses_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PersonQuery(Collections.emptyList()));
+        assertThrows(IllegalArgumentException.class, () -> new FieldClause(SearchField.TAG, Collections.emptyList()));
+    }
+
+    @Test
+    public void test_everyClauseMustMatch() {
+        PersonQuery query = new PersonQuery(List.of(
+                new FieldClause(SearchField.TAG, List.of("FRIENDS")),
+                new FieldClause(SearchField.NAME, List.of("mei"))));
+        assertTrue(query.test(BENSON));
+        assertTrue(query.test(DANIEL));
+        assertFalse(query.test(ALICE)); // tag matches, name does not
+    }
+
+    @Test
+    public void test_eachField_matchesWordPrefixes() {
+        assertTrue(new FieldClause(SearchField.PHONE, List.of("9876")).test(BENSON));
+        assertTrue(new FieldClause(SearchField.EMAIL, List.of("johnd")).test(BENSON));
+        assertTrue(new FieldClause(SearchField.ADDRESS, List.of("clem")).test(BENSON));
+        assertTrue(new FieldClause(SearchField.RELATIONSHIP, List.of("neigh")).test(BENSON));
+        assertTrue(new FieldClause(SearchField.NICKNAME, List.of("ben")).test(BENSON));
+        assertTrue(new FieldClause(SearchField.NOTES, List.of("peanut")).test(BENSON));
+        assertTrue(new FieldClause(SearchField.TAG, List.of("xyz", "owes")).test(BENSON));
+
+        // missing optional field never matches
+        assertFalse(new FieldClause(SearchField.RELATIONSHIP, List.of("neigh")).test(ALICE));
+        // not a word prefix
+        assertFalse(new FieldClause(SearchField.NOTES, List.of("ergic")).test(BENSON));
+    }
+
+    @Test
+    public void compile_sameMatchesAsQuery() {
+        List<PersonQuery> queries = List.of(
+                new PersonQuery(List.of(new FieldClause(SearchField.NAME, List.of("meier")),
+                        new FieldClause(SearchField.TAG, List.of("friends")))),
+                new PersonQuery(List.of(new FieldClause(SearchField.NAME, List.of("zzz")))),
+                new PersonQuery(List.of(new FieldClause(SearchField.EMAIL, List.of("j", "h")),
+                        new FieldClause(SearchField.NAME, List.of("j", "i", "b")),
+                        new FieldClause(SearchField.NAME, List.of("b", "g")))));
+        for (PersonQuery query : queries) {
+            Predicate<Person> compiled = query.compile(model);
+            for (Person person : model.getAddressBook().getPersonList()) {
+                assertEquals(query.test(person), compiled.test(person), query + " / " + person.getName());
+            }
+        }
+    }
+
+    @Test
+    public void equals() {
+        PersonQuery query = new PersonQuery(List.of(new FieldClause(SearchField.TAG, List.of("friends"))));
+
+        assertTrue(query.equals(query));
+        assertTrue(query.equals(new PersonQuery(List.of(new FieldClause(SearchField.TAG, List.of("friends"))))));
+        assertFalse(query.equals(null));
+        assertFalse(query.equals(new PersonQuery(List.of(new FieldClause(SearchField.NAME, List.of("friends"))))));
+        assertFalse(query.equals(new PersonQuery(List.of(new FieldClause(SearchField.TAG, List.of("family"))))));
+    }
+}
@@ -0,0 +1,192 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalFilePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+        journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournalAddressBookStorage(filePath, false)
+                .readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(new JournalAddressBookStorage(filePath, false).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesSnapshotOnly() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new JournalAddressBookStorage(filePath, false).saveAddressBook(original);
+
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterRead_appendsOneRecordPerChange() throws Exception {
+        new JournalAddressBookStorage(filePath, false).saveAddressBook(getTypicalAddressBook());
+        String snapshot = Files.readString(filePath);
+
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, false);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("91234567").build();
+        addressBook.addPerson(HOON);
+        addressBook.removePerson(ALICE);
+        addressBook.setPerson(BENSON, editedBenson);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(3, Files.readAllLines(journalFilePath).size());
+        assertEquals(addressBook, new AddressBook(new JournalAddressBookStorage(filePath, false)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedBook_appendsNothing() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, false);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        storage.saveAddressBook(new AddressBook(addressBook));
+
+        assertFalse(Files.exists(journalFilePath));
+    }
+
+    @Test
+    public void saveAddressBook_orderChanged_compacts() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, false);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertTrue(Files.exists(journalFilePath));
+
+        // renaming a person in place cannot be expressed as a delete followed by an append
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withName("Alice Tan").build());
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compacts() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, false, 1, 1);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalWithoutSnapshot_replaysJournal() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, false);
+        AddressBook addressBook = new AddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        Files.delete(filePath);
+
+        assertEquals(addressBook, new AddressBook(new JournalAddressBookStorage(filePath, false)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_snapshotRestoredFromBackup_setsJournalAside() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, false);
+        AddressBook backedUp = getTypicalAddressBook();
+        storage.saveAddressBook(backedUp);
+        AddressBook addressBook = new AddressBook(backedUp);
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withName("Alice Tan").build());
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertTrue(Files.exists(journalFilePath));
+        Files.writeString(filePath, "corrupt");
+
+        JournalAddressBookStorage reopened = new JournalAddressBookStorage(filePath, false);
+        assertEquals(backedUp, new AddressBook(reopened.readAddressBook().get()));
+        assertFalse(Files.exists(journalFilePath));
+        Path unappliedFilePath = journalFilePath.resolveSibling(journalFilePath.getFileName()
+                + JournalAddressBookStorage.UNAPPLIED_JOURNAL_FILE_SUFFIX);
+        assertEquals(1, Files.readAllLines(unappliedFilePath).size());
+
+        reopened.saveAddressBook(addressBook);
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(addressBook, new AddressBook(new JournalAddressBookStorage(filePath, false)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_truncatedLastRecord_ignoresRecordAndCompactsOnNextSave() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, false);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        AddressBook expected = new AddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        expected.addPerson(HOON);
+        Files.writeString(journalFilePath, "{\"op\":\"put\",\"person\":{\"na", StandardOpenOption.APPEND);
+
+        JournalAddressBookStorage reopened = new JournalAddressBookStorage(filePath, false);
+        AddressBook readBack = new AddressBook(reopened.readAddressBook().get());
+        assertEquals(expected, readBack);
+
+        readBack.addPerson(IDA);
+        reopened.saveAddressBook(readBack);
+        assertFalse(Files.exists(journalFilePath));
+    }
+
+    @Test
+    public void readAddressBook_malformedRecordBeforeLast_throwsDataLoadingException() throws Exception {
+        new JournalAddressBookStorage(filePath, false).saveAddressBook(getTypicalAddressBook());
+        Files.write(journalFilePath, List.of("{\"op\":\"unknown\"}", "{\"op\":\"delete\",\"name\":\"Alice Pauline\"}"),
+                StandardCharsets.UTF_8);
+
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath, false)
+                .readAddressBook());
+    }
+}
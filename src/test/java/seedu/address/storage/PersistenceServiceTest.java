@@ -0,0 +1,175 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.CommandHistory;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class PersistenceServiceTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final List<ReadOnlyAddressBook> savedAddressBooks = new ArrayList<>();
+    private final QueuedExecutorService executor = new QueuedExecutorService();
+    private StorageManager storage;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                savedAddressBooks.add(addressBook);
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        storage = new StorageManager(addressBookStorage, new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                new JsonCommandHistoryStorage(testFolder.resolve("history")));
+    }
+
+    @Test
+    public void submit_severalSnapshotsBeforeWrite_writesLatestOnce() throws Exception {
+        PersistenceService service = new PersistenceService(storage, executor);
+        AddressBook addressBook = new AddressBook();
+        CommandHistory commandHistory = new CommandHistory();
+
+        addressBook.addPerson(ALICE);
+        service.submit(addressBook, commandHistory);
+        addressBook.addPerson(BENSON);
+        commandHistory.addCommand("add Benson");
+        service.submit(addressBook, commandHistory);
+
+        assertEquals(1, executor.tasks.size());
+        executor.runAll();
+
+        assertEquals(1, savedAddressBooks.size());
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(commandHistory.getCommandHistory(), storage.readCommandHistory().get().getCommandHistory());
+    }
+
+    @Test
+    public void submit_modelChangedAfterSubmit_writesSnapshot() throws Exception {
+        PersistenceService service = new PersistenceService(storage, executor);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        service.submit(addressBook, new CommandHistory());
+        AddressBook expected = new AddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        executor.runAll();
+
+        assertEquals(expected, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void flush_pendingSnapshot_writesOnCallingThread() throws Exception {
+        PersistenceService service = new PersistenceService(storage, executor);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        service.submit(addressBook, new CommandHistory());
+        service.flush();
+
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+
+        // the queued task finds nothing left to write
+        executor.runAll();
+        assertEquals(1, savedAddressBooks.size());
+    }
+
+    @Test
+    public void submit_storageThrows_reportsToErrorHandler() {
+        IOException exception = new IOException("dummy IO exception");
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(testFolder.resolve("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw exception;
+            }
+        };
+        StorageManager failingStorageManager = new StorageManager(failingStorage,
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                new JsonCommandHistoryStorage(testFolder.resolve("history")));
+        PersistenceService service = new PersistenceService(failingStorageManager, executor);
+        List<IOException> reported = new ArrayList<>();
+        service.setErrorHandler(reported::add);
+
+        service.submit(getTypicalAddressBook(), new CommandHistory());
+        executor.runAll();
+
+        assertEquals(1, reported.size());
+        assertSame(exception, reported.get(0));
+    }
+
+    @Test
+    public void shutdown_pendingSnapshot_writesAndStopsExecutor() throws Exception {
+        PersistenceService service = new PersistenceService(storage, executor);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        service.submit(addressBook, new CommandHistory());
+        service.shutdown();
+
+        assertTrue(executor.isShutdown());
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    /**
+     * An executor that holds submitted tasks until {@link #runAll()} is called.
+     */
+    private static class QueuedExecutorService extends AbstractExecutorService {
+        private final List<Runnable> tasks = new ArrayList<>();
+        private boolean isShutdown = false;
+
+        void runAll() {
+            List<Runnable> toRun = new ArrayList<>(tasks);
+            tasks.clear();
+            toRun.forEach(Runnable::run);
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        @Override
+        public void shutdown() {
+            isShutdown = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            isShutdown = true;
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return isShutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return isShutdown && tasks.isEmpty();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -12,6 +16,7 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookStorageType;
 import seedu.address.model.CommandHistory;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyCommandHistory;
@@ -63,6 +68,73 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBook_unchangedVersion_skipsWrite() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storageManager.saveAddressBook(addressBook);
+        Files.delete(storageManager.getAddressBookFilePath());
+
+        storageManager.saveAddressBook(addressBook);
+        assertFalse(Files.exists(storageManager.getAddressBookFilePath()));
+
+        addressBook.removePerson(ALICE);
+        storageManager.saveAddressBook(addressBook);
+        assertEquals(addressBook, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_copyOfReadAddressBook_skipsWrite() throws Exception {
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        AddressBook copy = new AddressBook(storageManager.readAddressBook().get());
+        Files.delete(storageManager.getAddressBookFilePath());
+
+        storageManager.saveAddressBook(copy);
+        assertFalse(Files.exists(storageManager.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void saveAddressBook_copyOfAddressBookReadFromBackup_writes() throws Exception {
+        Path filePath = storageManager.getAddressBookFilePath();
+        AddressBook addressBook = getTypicalAddressBook();
+        storageManager.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storageManager.saveAddressBook(addressBook);
+        Files.writeString(filePath, "not json");
+
+        AddressBook copy = new AddressBook(storageManager.readAddressBook().get());
+        assertEquals(getTypicalAddressBook(), copy);
+
+        storageManager.saveAddressBook(copy);
+        assertEquals(copy, new AddressBook(new JsonAddressBookStorage(filePath).readWithoutBackups(filePath).get()));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedVersionToOtherFile_writes() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        Path otherFilePath = getTempFilePath("otherAb");
+        storageManager.saveAddressBook(addressBook);
+
+        storageManager.saveAddressBook(addressBook, otherFilePath);
+        assertTrue(Files.exists(otherFilePath));
+    }
+
+    @Test
+    public void createAddressBookStorage_storageTypeInUserPrefs_createsMatchingBackend() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertTrue(StorageManager.createAddressBookStorage(userPrefs) instanceof JsonAddressBookStorage);
+
+        userPrefs.setAddressBookStorageType(AddressBookStorageType.JOURNAL);
+        AddressBookStorage addressBookStorage = StorageManager.createAddressBookStorage(userPrefs);
+        assertTrue(addressBookStorage instanceof JournalAddressBookStorage);
+        assertEquals(userPrefs.getAddressBookFilePath(), addressBookStorage.getAddressBookFilePath());
+
+        userPrefs.setAddressBookStorageType(AddressBookStorageType.BINARY);
+        addressBookStorage = StorageManager.createAddressBookStorage(userPrefs);
+        assertTrue(addressBookStorage instanceof BinaryAddressBookStorage);
+        assertEquals(BinaryAddressBookStorage.getBinaryFilePath(userPrefs.getAddressBookFilePath()),
+                addressBookStorage.getAddressBookFilePath());
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -81,6 +153,21 @@ public class StorageManagerTest {
         assertEquals(original, new CommandHistory(retrieved));
     }
 
+    @Test
+    public void saveCommandHistory_unchangedVersion_skipsWrite() throws Exception {
+        CommandHistory commandHistory = new CommandHistory();
+        commandHistory.addCommand("list");
+        storageManager.saveCommandHistory(commandHistory);
+        Files.delete(storageManager.getCommandHistoryFilePath());
+
+        storageManager.saveCommandHistory(commandHistory);
+        assertFalse(Files.exists(storageManager.getCommandHistoryFilePath()));
+
+        commandHistory.addCommand("help");
+        storageManager.saveCommandHistory(commandHistory);
+        assertEquals(commandHistory, new CommandHistory(storageManager.readCommandHistory().get()));
+    }
+
     @Test
     public void getCommandHistoryFilePath() {
         assertNotNull(storageManager.getCommandHistoryFilePath());
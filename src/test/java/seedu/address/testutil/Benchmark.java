@@ -0,0 +1,62 @@
+package seedu.address.testutil;
+
+import java.util.Arrays;
+
+/**
+ * Times the rounds of a benchmark. A few warm-up rounds run first so that the measured code is already compiled,
+ * and the median of the measured rounds is reported, as a garbage collection in one round barely moves it.
+ */
+public class Benchmark {
+    public static final int WARMUP_ROUNDS = 3;
+    public static final int MEASURED_ROUNDS = 5;
+
+    /**
+     * Runs {@code round} for the warm-up and the measured rounds, timing each round as a whole, and returns the
+     * median time of the measured rounds in nanoseconds.
+     */
+    public static long medianNanos(Task round) throws Exception {
+        return medianOfTimedRounds(() -> timeNanos(round));
+    }
+
+    /**
+     * Runs {@code round} for the warm-up and the measured rounds, and returns the median of the times in
+     * nanoseconds that the measured rounds return. Each round times only the part it measures, typically with
+     * {@link #timeNanos(Task)}, so that it can prepare its input untimed.
+     */
+    public static long medianOfTimedRounds(TimedRound round) throws Exception {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            round.run();
+        }
+        long[] nanos = new long[MEASURED_ROUNDS];
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            nanos[i] = round.run();
+        }
+        Arrays.sort(nanos);
+        return nanos[MEASURED_ROUNDS / 2];
+    }
+
+    /**
+     * Runs {@code task} once and returns how long it took in nanoseconds.
+     */
+    public static long timeNanos(Task task) throws Exception {
+        long start = System.nanoTime();
+        task.run();
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Code whose running time is measured.
+     */
+    @FunctionalInterface
+    public interface Task {
+        void run() throws Exception;
+    }
+
+    /**
+     * A round of a benchmark that returns the time in nanoseconds taken by the part of it that is measured.
+     */
+    @FunctionalInterface
+    public interface TimedRound {
+        long run() throws Exception;
+    }
+}
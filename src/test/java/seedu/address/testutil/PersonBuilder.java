@@ -86,7 +86,7 @@ public class PersonBuilder {
         email = Optional.of(new Email(DEFAULT_EMAIL));
         address = Optional.of(new Address(DEFAULT_ADDRESS));
         birthday = Optional.of(new Birthday(DEFAULT_BIRTHDAY));
-        relationship = Optional.of(new Relationship(DEFAULT_RELATIONSHIP));
+        relationship = Optional.of(Relationship.of(DEFAULT_RELATIONSHIP));
         nickname = Optional.of(new Nickname(DEFAULT_NICKNAME));
         notes = Optional.of(new Notes(DEFAULT_NOTES));
         tags = new HashSet<>();
@@ -142,7 +142,7 @@ public class PersonBuilder {
      * @throws IllegalArgumentException if {@code relationship} is in an invalid format.
      */
     public PersonBuilder withRelationship(String relationship) {
-        this.relationship = Optional.of(new Relationship(relationship));
+        this.relationship = Optional.of(Relationship.of(relationship));
         return this;
     }
     /**
@@ -0,0 +1,105 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.scene.image.Image;
+
+public class ImageCacheTest {
+
+    private static final String DEFAULT_IMAGE_URL = "jar:file:/app.jar!/images/defaultUserPicture.png";
+    private static final Path PICTURE = Paths.get("src", "main", "resources", "images", "clock.png");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void resolveUrl_url_unchanged() {
+        assertEquals("file:/home/user/picture.png",
+                ImageCache.resolveUrl("file:/home/user/picture.png", DEFAULT_IMAGE_URL));
+        assertEquals("https://example.com/picture.png",
+                ImageCache.resolveUrl("https://example.com/picture.png", DEFAULT_IMAGE_URL));
+        assertEquals(DEFAULT_IMAGE_URL, ImageCache.resolveUrl(DEFAULT_IMAGE_URL, DEFAULT_IMAGE_URL));
+    }
+
+    @Test
+    public void resolveUrl_existingFile_fileUrl() throws Exception {
+        Path picture = Files.createFile(testFolder.resolve("picture.png"));
+        assertEquals(picture.toFile().toURI().toString(), ImageCache.resolveUrl(picture.toString(), DEFAULT_IMAGE_URL));
+    }
+
+    @Test
+    public void resolveUrl_missingFile_defaultImageUrl() {
+        assertEquals(DEFAULT_IMAGE_URL,
+                ImageCache.resolveUrl(testFolder.resolve("missing.png").toString(), DEFAULT_IMAGE_URL));
+    }
+
+    @Test
+    public void getDefaultImage_repeatedCalls_sameImage() throws Exception {
+        ImageCache cache = new ImageCache(2);
+        CompletableFuture<Image> defaultImage = cache.getDefaultImage();
+        assertSame(defaultImage, cache.getDefaultImage());
+        assertSame(defaultImage, cache.getImage(testFolder.resolve("missing.png").toString()));
+        assertSame(defaultImage.get(), cache.getDefaultImage().get());
+    }
+
+    @Test
+    public void getImage_samePath_sameFuture() throws Exception {
+        ImageCache cache = new ImageCache(2);
+        String path = copyPicture("picture.png");
+        CompletableFuture<Image> image = cache.getImage(path);
+        assertSame(image, cache.getImage(path));
+        assertFalse(image.get().isError());
+        assertNotSame(cache.getDefaultImage().get(), image.get());
+    }
+
+    @Test
+    public void getImage_moreImagesThanMaxEntries_dropsLeastRecentlyUsed() throws Exception {
+        ImageCache cache = new ImageCache(2);
+        String first = copyPicture("first.png");
+        String second = copyPicture("second.png");
+        CompletableFuture<Image> firstImage = cache.getImage(first);
+        CompletableFuture<Image> secondImage = cache.getImage(second);
+
+        // Using the first image again makes the second one the least recently used
+        assertSame(firstImage, cache.getImage(first));
+        cache.getImage(copyPicture("third.png"));
+
+        assertSame(firstImage, cache.getImage(first));
+        assertNotSame(secondImage, cache.getImage(second));
+    }
+
+    @Test
+    public void getImage_unreadableImage_defaultImage() throws Exception {
+        ImageCache cache = new ImageCache(2);
+        Path notAnImage = Files.writeString(testFolder.resolve("notAnImage.png"), "not an image");
+        assertSame(cache.getDefaultImage().get(), cache.getImage(notAnImage.toString()).get());
+    }
+
+    @Test
+    public void getImage_unresponsiveRemoteImage_localImagesStillLoad() throws Exception {
+        ImageCache cache = new ImageCache(2);
+        // The server accepts connections but never answers, so loading the remote image hangs
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            cache.getImage("http://localhost:" + server.getLocalPort() + "/picture.png");
+            assertFalse(cache.getImage(copyPicture("picture.png")).get(10, TimeUnit.SECONDS).isError());
+        }
+    }
+
+    private String copyPicture(String fileName) throws Exception {
+        return Files.copy(PICTURE, testFolder.resolve(fileName)).toString();
+    }
+}
@@ -0,0 +1,143 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.StackPane;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.Benchmark;
+import seedu.address.testutil.TypicalPersons;
+
+/**
+ * Measures creating and laying out person cards, whose layout is built in code, and compares it with loading the
+ * same layout from {@code PersonListCard.fxml} for every card, as the cards did before. The FXML file is kept in the
+ * test resources only, and the benchmark also checks that both ways build the same node graph.
+ * Run with {@code gradlew benchmark} on a machine with a display, as the JavaFX toolkit has to be started;
+ * the number of cards can be set with {@code -Dbenchmark.cards=N}.
+ */
+@Tag("benchmark")
+public class PersonCardBenchmarkTest {
+    private static final String FXML_FILE = "/view/PersonListCard.fxml";
+    private static final int CARD_COUNT = Integer.getInteger("benchmark.cards", 10_000);
+    private static final List<Person> PERSONS = TypicalPersons.getTypicalPersons();
+
+    @BeforeAll
+    public static void startToolkit() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        try {
+            Platform.startup(started::countDown);
+        } catch (IllegalStateException e) {
+            // The toolkit was already started by another test
+            started.countDown();
+        }
+        started.await();
+    }
+
+    @Test
+    public void personCard_manyCards_compareWithFxml() throws Exception {
+        assertEquals(runOnFxThread(() -> describe(new FXMLLoader(getFxmlFileUrl()).load())),
+                runOnFxThread(() -> describe(new PersonCard(command -> {}).getRoot())));
+
+        double fxmlMillis = runOnFxThread(() -> measure(PersonCardBenchmarkTest::loadFxmlCard));
+        double codeMillis = runOnFxThread(() -> measure(PersonCardBenchmarkTest::createCard));
+        System.out.printf("Rendering %d person cards: FXML median %.1f ms, built in code median %.1f ms%n",
+                CARD_COUNT, fxmlMillis, codeMillis);
+    }
+
+    private static double measure(CardFactory cardFactory) throws Exception {
+        StackPane holder = new StackPane();
+        Scene scene = new Scene(holder);
+        scene.getStylesheets().addAll("view/DarkTheme.css", "view/Extensions.css");
+
+        return Benchmark.medianNanos(() -> renderCards(cardFactory, holder)) / 1e6;
+    }
+
+    private static void renderCards(CardFactory cardFactory, StackPane holder) throws IOException {
+        for (int i = 0; i < CARD_COUNT; i++) {
+            holder.getChildren().setAll(cardFactory.create(PERSONS.get(i % PERSONS.size()), i + 1));
+            holder.applyCss();
+            holder.layout();
+        }
+    }
+
+    private static Node createCard(Person person, int displayedIndex) {
+        return new PersonCard(person, displayedIndex, command -> {}).getRoot();
+    }
+
+    /**
+     * Loads a card from {@code PersonListCard.fxml} and fills in its labels, as the card did before its layout was
+     * built in code.
+     */
+    private static Node loadFxmlCard(Person person, int displayedIndex) throws IOException {
+        FXMLLoader loader = new FXMLLoader(getFxmlFileUrl());
+        Node root = loader.load();
+        Map<String, Object> namespace = loader.getNamespace();
+        setText(namespace, "id", String.valueOf(displayedIndex));
+        setText(namespace, "name", person.getName().fullName);
+        setText(namespace, "nickname", person.getNicknameValue());
+        setText(namespace, "relationship", person.getRelationshipValue());
+        setText(namespace, "phone", person.getPhoneValue());
+        setText(namespace, "address", person.getAddressValue());
+        setText(namespace, "email", person.getEmailValue());
+        setText(namespace, "birthday", person.getBirthdayValue());
+        setText(namespace, "notes", person.getNotesValue());
+        FlowPane tags = (FlowPane) namespace.get("tags");
+        person.getTags().forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+        return root;
+    }
+
+    private static URL getFxmlFileUrl() {
+        return PersonCardBenchmarkTest.class.getResource(FXML_FILE);
+    }
+
+    private static void setText(Map<String, Object> namespace, String fxId, String text) {
+        ((Label) namespace.get(fxId)).setText(text);
+    }
+
+    /**
+     * Returns the type, id and style classes of {@code node} and all its descendants, so that two node graphs can
+     * be compared.
+     */
+    private static String describe(Node node) {
+        StringBuilder description = new StringBuilder(node.getClass().getSimpleName())
+                .append('#').append(node.getId())
+                .append(node.getStyleClass());
+        if (node instanceof Parent) {
+            description.append('{');
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                description.append(describe(child));
+            }
+            description.append('}');
+        }
+        return description.toString();
+    }
+
+    private static <T> T runOnFxThread(Callable<T> task) throws Exception {
+        FutureTask<T> futureTask = new FutureTask<>(task);
+        Platform.runLater(futureTask);
+        return futureTask.get();
+    }
+
+    @FunctionalInterface
+    private interface CardFactory {
+        Node create(Person person, int displayedIndex) throws IOException;
+    }
+}